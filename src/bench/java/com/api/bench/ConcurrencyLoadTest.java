@@ -0,0 +1,131 @@
+package com.api.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Charge en boucle fermee sur une API demarree : N clients concurrents enchainent chacun leurs requetes
+ * pendant une duree fixe, pour plusieurs valeurs de N. Affiche debit et latences (p50, p99) par palier.
+ *
+ * Comparaison threads de Tomcat / threads virtuels : lancer l'API deux fois (THREADS_VIRTUAL=false puis
+ * true, image construite avec --build-arg JDK=21) et rejouer le meme test.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.api.bench.ConcurrencyLoadTest \
+ *     -Dbench="http://localhost:8080/api/posters/tt0111161 <token> 1000,2000,5000,10000 30s"
+ *
+ * Au-dela de quelques milliers de connexions, augmenter ulimit -n cote client et serveur, et
+ * maxConnections du connecteur Tomcat (8192 par defaut).
+ */
+public final class ConcurrencyLoadTest {
+
+    private ConcurrencyLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage : <url> <token> [paliers, ex. 1000,5000,10000] [duree par palier, ex. 30s]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        int[] levels = args.length > 2
+                ? Arrays.stream(args[2].split(",")).mapToInt(v -> Integer.parseInt(v.trim())).toArray()
+                : new int[] {1000, 2000, 5000, 10000};
+        Duration duration = args.length > 3 ? parseSeconds(args[3]) : Duration.ofSeconds(30);
+
+        // Le client ne doit pas etre le goulot : ses callbacks tournent sur un pool a part
+        ExecutorService callbacks = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbacks)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        System.out.printf("%-8s %12s %10s %10s %10s %8s%n", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "erreurs");
+        for (int level : levels) {
+            run(client, request, level, Duration.ofSeconds(5));   // chauffe
+            Result result = run(client, request, level, duration);
+            System.out.printf("%-8d %12.0f %10.1f %10.1f %10.1f %8d%n", level,
+                    result.completed / (duration.toNanos() / 1e9),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors);
+        }
+        callbacks.shutdownNow();
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            long[] latencies = new long[4096];
+            samples.add(latencies);
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            loop(client, request, deadline, latencies, new int[1], completed, errors, done);
+            loops.add(done);
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture<?>[]::new)).join();
+        return new Result(completed.get(), errors.get(), samples);
+    }
+
+    // Une requete, puis la suivante des la reponse recue, jusqu'a l'echeance
+    private static void loop(HttpClient client, HttpRequest request, long deadline, long[] latencies, int[] count,
+                             AtomicLong completed, AtomicLong errors, CompletableFuture<Void> done) {
+        if (System.nanoTime() >= deadline) {
+            done.complete(null);
+            return;
+        }
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (error != null || response.statusCode() >= 500) {
+                errors.incrementAndGet();
+            } else {
+                completed.incrementAndGet();
+                // Echantillon circulaire par client : memoire bornee quelle que soit la duree
+                latencies[count[0]++ % latencies.length] = System.nanoTime() - start;
+            }
+            loop(client, request, deadline, latencies, count, completed, errors, done);
+        });
+    }
+
+    private static Duration parseSeconds(String value) {
+        String v = value.trim();
+        return Duration.ofSeconds(Long.parseLong(v.endsWith("s") ? v.substring(0, v.length() - 1) : v));
+    }
+
+    private static final class Result {
+        final long completed;
+        final long errors;
+        final long[] sorted;
+
+        Result(long completed, long errors, ConcurrentLinkedQueue<long[]> samples) {
+            this.completed = completed;
+            this.errors = errors;
+            this.sorted = samples.stream().flatMapToLong(Arrays::stream).filter(v -> v > 0).sorted().toArray();
+        }
+
+        double percentile(double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
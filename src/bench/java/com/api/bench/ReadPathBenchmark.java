@@ -0,0 +1,112 @@
+package com.api.bench;
+
+import com.api.entities.Poster;
+import com.api.repositories.BsonJsonTranscoder;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chemin de lecture d'une liste de posters, a partir des octets BSON recus de MongoDB :
+ *   documentPath : BSON -> Document -> Poster -> Jackson (chemin historique)
+ *   rawPath      : RawBsonDocument -> JSON (BsonJsonTranscoder)
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench=ReadPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final DocumentCodec codec = new DocumentCodec();
+    private List<RawBsonDocument> docs;
+
+    @Setup
+    public void setup() throws IOException {
+        docs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Document doc = new Document("_id", String.format("tt%07d", i))
+                    .append("url", "https://m.media-amazon.com/images/M/MV5BMDAyY2FhYjctNDc5OS00MDNlLThiMGUtY2UxYWVkNGY2ZjljXkEyXkFqcGc@._V1_SX300.jpg")
+                    .append("titre", "The Shawshank Redemption " + i)
+                    .append("version", 1L);
+            docs.add(new RawBsonDocument(doc, codec));
+        }
+
+        // Les deux chemins doivent produire exactement le meme JSON
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        documentPath(expected);
+        rawPath(actual);
+        if (!Arrays.equals(expected.toByteArray(), actual.toByteArray())) {
+            throw new IllegalStateException("Sorties differentes :\n" + expected + "\n" + actual);
+        }
+    }
+
+    @Benchmark
+    public void documentPath() throws IOException {
+        documentPath(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void rawPath() throws IOException {
+        rawPath(OutputStream.nullOutputStream());
+    }
+
+    private void documentPath(OutputStream out) throws IOException {
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            for (RawBsonDocument raw : docs) {
+                Document doc;
+                try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                    doc = codec.decode(reader, DecoderContext.builder().build());
+                }
+                Poster poster = new Poster(doc.getString("_id"), doc.getString("url"), doc.getString("titre"));
+                Object version = doc.get("version");
+                poster.setVersion(version instanceof Number n ? n.longValue() : 0L);
+                gen.writeObject(poster);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private void rawPath(OutputStream out) throws IOException {
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            for (RawBsonDocument raw : docs) {
+                BsonJsonTranscoder.write(raw, gen, null);
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.api.bench;
+
+import com.api.config.AppConfig;
+import com.api.entities.Poster;
+import com.api.repositories.LogStorageEngine;
+import com.api.repositories.MongoStorageEngine;
+import com.api.repositories.StorageEngine;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Moteurs de stockage compares directement (sans cache du repository ni HTTP), sur size posters precharges :
+ *   findById : latence d'une lecture par id tiree au hasard (SampleTime : p50, p99... dans le rapport)
+ *   insert   : debit soutenu d'insertions unitaires, la collection grossit pendant toute la mesure
+ *
+ * log ecrit dans un repertoire temporaire avec la politique storage.log.fsync donnee par fsync. mongo vise
+ * mongo.uri (ou mongo.host/mongo.port) et la base posters_bench, supprimee au debut et a la fin.
+ *
+ * mvn -Pbench test-compile exec:exec -Dbench=StorageEngineBenchmark
+ * mvn -Pbench test-compile exec:exec -Dbench="StorageEngineBenchmark -p engine=log -p fsync=always,interval"
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StorageEngineBenchmark {
+
+    private static final String DB = "posters_bench";
+    private static final String URL = "https://m.media-amazon.com/images/M/MV5BMDAyY2FhYjctNDc5OS00MDNlLThiMGUtY2UxYWVkNGY2ZjljXkEyXkFqcGc@._V1_SX300.jpg";
+
+    @Param({"log", "mongo"})
+    public String engine;
+
+    @Param({"interval"})
+    public String fsync;
+
+    @Param({"100000"})
+    public int size;
+
+    private StorageEngine store;
+    private Path dir;
+    private final AtomicLong inserted = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        AppConfig config = AppConfig.get();
+        if (engine.equals("log")) {
+            dir = Files.createTempDirectory("posters-log-bench");
+            set("storage.log.dir", dir.toString());
+            set("storage.log.fsync", fsync);
+            store = new LogStorageEngine(config);
+        } else {
+            set("mongo.db", DB);
+            dropDatabase();
+            store = new MongoStorageEngine(config);
+        }
+
+        List<Poster> batch = new ArrayList<>(1000);
+        for (int i = 0; i < size; i++) {
+            batch.add(poster(String.format("tt%07d", i)));
+            if (batch.size() == 1000 || i == size - 1) {
+                store.insertMany(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        if (dir != null) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        } else {
+            dropDatabase();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Poster findById() {
+        return store.findById(String.format("tt%07d", ThreadLocalRandom.current().nextInt(size)), null, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public boolean insert() {
+        return store.insert(poster("n" + inserted.incrementAndGet()));
+    }
+
+    private static Poster poster(String id) {
+        Poster poster = new Poster(id, URL, "The Shawshank Redemption " + id);
+        poster.setVersion(1L);
+        return poster;
+    }
+
+    // Une variable d'environnement l'emporterait sur la propriete : refuse plutot que d'ecrire ailleurs
+    private static void set(String key, String value) {
+        System.setProperty(key, value);
+        String actual = AppConfig.get().getString(key, null);
+        if (!value.equals(actual)) {
+            throw new IllegalStateException(key + " est fixe par l'environnement (" + actual + ") : le retirer pour le benchmark");
+        }
+    }
+
+    private static void dropDatabase() {
+        AppConfig config = AppConfig.get();
+        String uri = config.getString("mongo.uri", null);
+        if (uri == null) {
+            uri = "mongodb://" + config.getString("mongo.host", "mongodb") + ":" + config.getString("mongo.port", "27017");
+        }
+        try (MongoClient client = MongoClients.create(uri)) {
+            client.getDatabase(DB).drop();
+        }
+    }
+}
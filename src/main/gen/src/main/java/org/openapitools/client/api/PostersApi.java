@@ -27,8 +27,13 @@ import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 
 
+import org.openapitools.client.model.BulkOperation;
+import org.openapitools.client.model.BulkResponse;
 import org.openapitools.client.model.ErrorResponse;
+import org.openapitools.client.model.IdsRequest;
+import org.openapitools.client.model.ImportProgress;
 import org.openapitools.client.model.Poster;
+import org.openapitools.client.model.PosterBatch;
 import org.openapitools.client.model.PosterPatch;
 
 import java.lang.reflect.Type;
@@ -74,6 +79,141 @@ public class PostersApi {
         this.localCustomBaseUrl = customBaseUrl;
     }
 
+    /**
+     * Build call for bulkPosters
+     * @param bulkOperation  (required)
+     * @param _callback Callback for upload/download progress
+     * @return Call to execute
+     * @throws ApiException If fail to serialize the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Lot traité (voir le statut de chaque opération) </td><td>  * X-Causal-Token -  <br>  </td></tr>
+        <tr><td> 400 </td><td> Lot vide </td><td>  -  </td></tr>
+        <tr><td> 413 </td><td> Trop d&#39;opérations dans le lot </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call bulkPostersCall(List<BulkOperation> bulkOperation, final ApiCallback _callback) throws ApiException {
+        String basePath = null;
+        // Operation Servers
+        String[] localBasePaths = new String[] {  };
+
+        // Determine Base Path to Use
+        if (localCustomBaseUrl != null){
+            basePath = localCustomBaseUrl;
+        } else if ( localBasePaths.length > 0 ) {
+            basePath = localBasePaths[localHostIndex];
+        } else {
+            basePath = null;
+        }
+
+        Object localVarPostBody = bulkOperation;
+
+        // create path and map variables
+        String localVarPath = "/api/posters/_bulk";
+
+        List<Pair> localVarQueryParams = new ArrayList<Pair>();
+        List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
+        Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+        Map<String, String> localVarCookieParams = new HashMap<String, String>();
+        Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+        final String[] localVarAccepts = {
+            "application/json"
+        };
+        final String localVarAccept = localVarApiClient.selectHeaderAccept(localVarAccepts);
+        if (localVarAccept != null) {
+            localVarHeaderParams.put("Accept", localVarAccept);
+        }
+
+        final String[] localVarContentTypes = {
+            "application/json"
+        };
+        final String localVarContentType = localVarApiClient.selectHeaderContentType(localVarContentTypes);
+        if (localVarContentType != null) {
+            localVarHeaderParams.put("Content-Type", localVarContentType);
+        }
+
+        String[] localVarAuthNames = new String[] { "bearerAuth" };
+        return localVarApiClient.buildCall(basePath, localVarPath, "POST", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarCookieParams, localVarFormParams, localVarAuthNames, _callback);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private okhttp3.Call bulkPostersValidateBeforeCall(List<BulkOperation> bulkOperation, final ApiCallback _callback) throws ApiException {
+        // verify the required parameter 'bulkOperation' is set
+        if (bulkOperation == null) {
+            throw new ApiException("Missing the required parameter 'bulkOperation' when calling bulkPosters(Async)");
+        }
+
+        return bulkPostersCall(bulkOperation, _callback);
+
+    }
+
+    /**
+     * Exécute un lot d&#39;opérations create / update / delete
+     * Les opérations sont exécutées par tranches, sans ordre garanti entre elles. Chaque opération reçoit son propre statut (201, 200, 204, 400, 404, 409). 
+     * @param bulkOperation  (required)
+     * @return BulkResponse
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Lot traité (voir le statut de chaque opération) </td><td>  * X-Causal-Token -  <br>  </td></tr>
+        <tr><td> 400 </td><td> Lot vide </td><td>  -  </td></tr>
+        <tr><td> 413 </td><td> Trop d&#39;opérations dans le lot </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public BulkResponse bulkPosters(List<BulkOperation> bulkOperation) throws ApiException {
+        ApiResponse<BulkResponse> localVarResp = bulkPostersWithHttpInfo(bulkOperation);
+        return localVarResp.getData();
+    }
+
+    /**
+     * Exécute un lot d&#39;opérations create / update / delete
+     * Les opérations sont exécutées par tranches, sans ordre garanti entre elles. Chaque opération reçoit son propre statut (201, 200, 204, 400, 404, 409). 
+     * @param bulkOperation  (required)
+     * @return ApiResponse&lt;BulkResponse&gt;
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Lot traité (voir le statut de chaque opération) </td><td>  * X-Causal-Token -  <br>  </td></tr>
+        <tr><td> 400 </td><td> Lot vide </td><td>  -  </td></tr>
+        <tr><td> 413 </td><td> Trop d&#39;opérations dans le lot </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public ApiResponse<BulkResponse> bulkPostersWithHttpInfo(List<BulkOperation> bulkOperation) throws ApiException {
+        okhttp3.Call localVarCall = bulkPostersValidateBeforeCall(bulkOperation, null);
+        Type localVarReturnType = new TypeToken<BulkResponse>(){}.getType();
+        return localVarApiClient.execute(localVarCall, localVarReturnType);
+    }
+
+    /**
+     * Exécute un lot d&#39;opérations create / update / delete (asynchronously)
+     * Les opérations sont exécutées par tranches, sans ordre garanti entre elles. Chaque opération reçoit son propre statut (201, 200, 204, 400, 404, 409). 
+     * @param bulkOperation  (required)
+     * @param _callback The callback to be executed when the API call finishes
+     * @return The request call
+     * @throws ApiException If fail to process the API call, e.g. serializing the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Lot traité (voir le statut de chaque opération) </td><td>  * X-Causal-Token -  <br>  </td></tr>
+        <tr><td> 400 </td><td> Lot vide </td><td>  -  </td></tr>
+        <tr><td> 413 </td><td> Trop d&#39;opérations dans le lot </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call bulkPostersAsync(List<BulkOperation> bulkOperation, final ApiCallback<BulkResponse> _callback) throws ApiException {
+
+        okhttp3.Call localVarCall = bulkPostersValidateBeforeCall(bulkOperation, _callback);
+        Type localVarReturnType = new TypeToken<BulkResponse>(){}.getType();
+        localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+        return localVarCall;
+    }
     /**
      * Build call for createPoster
      * @param poster  (required)
@@ -83,7 +223,7 @@ public class PostersApi {
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  -  </td></tr>
+        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 400 </td><td> Données invalides (champs manquants) </td><td>  -  </td></tr>
         <tr><td> 409 </td><td> Un poster avec cet id existe déjà </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
@@ -154,7 +294,7 @@ public class PostersApi {
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  -  </td></tr>
+        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 400 </td><td> Données invalides (champs manquants) </td><td>  -  </td></tr>
         <tr><td> 409 </td><td> Un poster avec cet id existe déjà </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
@@ -174,7 +314,7 @@ public class PostersApi {
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  -  </td></tr>
+        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 400 </td><td> Données invalides (champs manquants) </td><td>  -  </td></tr>
         <tr><td> 409 </td><td> Un poster avec cet id existe déjà </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
@@ -196,7 +336,7 @@ public class PostersApi {
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  -  </td></tr>
+        <tr><td> 201 </td><td> Poster créé avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 400 </td><td> Données invalides (champs manquants) </td><td>  -  </td></tr>
         <tr><td> 409 </td><td> Un poster avec cet id existe déjà </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
@@ -212,18 +352,20 @@ public class PostersApi {
     /**
      * Build call for deletePoster
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @param _callback Callback for upload/download progress
      * @return Call to execute
      * @throws ApiException If fail to serialize the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  -  </td></tr>
+        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public okhttp3.Call deletePosterCall(String id, final ApiCallback _callback) throws ApiException {
+    public okhttp3.Call deletePosterCall(String id, String ifMatch, final ApiCallback _callback) throws ApiException {
         String basePath = null;
         // Operation Servers
         String[] localBasePaths = new String[] {  };
@@ -249,6 +391,10 @@ public class PostersApi {
         Map<String, String> localVarCookieParams = new HashMap<String, String>();
         Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
+        if (ifMatch != null) {
+            localVarHeaderParams.put("If-Match", localVarApiClient.parameterToString(ifMatch));
+        }
+
         final String[] localVarAccepts = {
             "application/json"
         };
@@ -269,13 +415,13 @@ public class PostersApi {
     }
 
     @SuppressWarnings("rawtypes")
-    private okhttp3.Call deletePosterValidateBeforeCall(String id, final ApiCallback _callback) throws ApiException {
+    private okhttp3.Call deletePosterValidateBeforeCall(String id, String ifMatch, final ApiCallback _callback) throws ApiException {
         // verify the required parameter 'id' is set
         if (id == null) {
             throw new ApiException("Missing the required parameter 'id' when calling deletePoster(Async)");
         }
 
-        return deletePosterCall(id, _callback);
+        return deletePosterCall(id, ifMatch, _callback);
 
     }
 
@@ -283,35 +429,39 @@ public class PostersApi {
      * Supprime un poster
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  -  </td></tr>
+        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public void deletePoster(String id) throws ApiException {
-        deletePosterWithHttpInfo(id);
+    public void deletePoster(String id, String ifMatch) throws ApiException {
+        deletePosterWithHttpInfo(id, ifMatch);
     }
 
     /**
      * Supprime un poster
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @return ApiResponse&lt;Void&gt;
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  -  </td></tr>
+        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public ApiResponse<Void> deletePosterWithHttpInfo(String id) throws ApiException {
-        okhttp3.Call localVarCall = deletePosterValidateBeforeCall(id, null);
+    public ApiResponse<Void> deletePosterWithHttpInfo(String id, String ifMatch) throws ApiException {
+        okhttp3.Call localVarCall = deletePosterValidateBeforeCall(id, ifMatch, null);
         return localVarApiClient.execute(localVarCall);
     }
 
@@ -319,36 +469,47 @@ public class PostersApi {
      * Supprime un poster (asynchronously)
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @param _callback The callback to be executed when the API call finishes
      * @return The request call
      * @throws ApiException If fail to process the API call, e.g. serializing the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  -  </td></tr>
+        <tr><td> 204 </td><td> Poster supprimé avec succès </td><td>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public okhttp3.Call deletePosterAsync(String id, final ApiCallback<Void> _callback) throws ApiException {
+    public okhttp3.Call deletePosterAsync(String id, String ifMatch, final ApiCallback<Void> _callback) throws ApiException {
 
-        okhttp3.Call localVarCall = deletePosterValidateBeforeCall(id, _callback);
+        okhttp3.Call localVarCall = deletePosterValidateBeforeCall(id, ifMatch, _callback);
         localVarApiClient.executeAsync(localVarCall, _callback);
         return localVarCall;
     }
     /**
      * Build call for getAllPosters
+     * @param limit Taille de page (plafonnée par le serveur) (optional)
+     * @param after Curseur opaque reçu dans l&#39;en-tête X-Next-Cursor de la page précédente (optional)
+     * @param ids Ids à récupérer, séparés par des virgules (optional)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @param _callback Callback for upload/download progress
      * @return Call to execute
      * @throws ApiException If fail to serialize the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  * X-Next-Cursor - Curseur de la page suivante (absent sur la dernière page) <br>  * X-Missing-Ids - Ids demandés via &#x60;ids&#x60; et introuvables, séparés par des virgules <br>  </td></tr>
+        <tr><td> 304 </td><td> La collection n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Paramètre limit, curseur ou liste d&#39;ids invalide </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public okhttp3.Call getAllPostersCall(final ApiCallback _callback) throws ApiException {
+    public okhttp3.Call getAllPostersCall(Integer limit, String after, List<String> ids, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback _callback) throws ApiException {
         String basePath = null;
         // Operation Servers
         String[] localBasePaths = new String[] {  };
@@ -373,6 +534,30 @@ public class PostersApi {
         Map<String, String> localVarCookieParams = new HashMap<String, String>();
         Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
+        if (limit != null) {
+            localVarQueryParams.addAll(localVarApiClient.parameterToPair("limit", limit));
+        }
+
+        if (after != null) {
+            localVarQueryParams.addAll(localVarApiClient.parameterToPair("after", after));
+        }
+
+        if (ids != null) {
+            localVarCollectionQueryParams.addAll(localVarApiClient.parameterToPairs("csv", "ids", ids));
+        }
+
+        if (fields != null) {
+            localVarCollectionQueryParams.addAll(localVarApiClient.parameterToPairs("csv", "fields", fields));
+        }
+
+        if (ifNoneMatch != null) {
+            localVarHeaderParams.put("If-None-Match", localVarApiClient.parameterToString(ifNoneMatch));
+        }
+
+        if (xCausalToken != null) {
+            localVarHeaderParams.put("X-Causal-Token", localVarApiClient.parameterToString(xCausalToken));
+        }
+
         final String[] localVarAccepts = {
             "application/json"
         };
@@ -393,62 +578,89 @@ public class PostersApi {
     }
 
     @SuppressWarnings("rawtypes")
-    private okhttp3.Call getAllPostersValidateBeforeCall(final ApiCallback _callback) throws ApiException {
-        return getAllPostersCall(_callback);
+    private okhttp3.Call getAllPostersValidateBeforeCall(Integer limit, String after, List<String> ids, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback _callback) throws ApiException {
+        return getAllPostersCall(limit, after, ids, fields, ifNoneMatch, xCausalToken, _callback);
 
     }
 
     /**
      * Liste tous les posters
-     * 
+     * Sans paramètre, renvoie toute la collection. Avec &#x60;limit&#x60; et/ou &#x60;after&#x60;, renvoie une page triée par id ; le curseur de la page suivante est transmis dans l&#39;en-tête &#x60;X-Next-Cursor&#x60;. Avec &#x60;ids&#x60;, renvoie les posters demandés dans l&#39;ordre, les ids introuvables étant listés dans &#x60;X-Missing-Ids&#x60;. 
+     * @param limit Taille de page (plafonnée par le serveur) (optional)
+     * @param after Curseur opaque reçu dans l&#39;en-tête X-Next-Cursor de la page précédente (optional)
+     * @param ids Ids à récupérer, séparés par des virgules (optional)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @return List&lt;Poster&gt;
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  * X-Next-Cursor - Curseur de la page suivante (absent sur la dernière page) <br>  * X-Missing-Ids - Ids demandés via &#x60;ids&#x60; et introuvables, séparés par des virgules <br>  </td></tr>
+        <tr><td> 304 </td><td> La collection n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Paramètre limit, curseur ou liste d&#39;ids invalide </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public List<Poster> getAllPosters() throws ApiException {
-        ApiResponse<List<Poster>> localVarResp = getAllPostersWithHttpInfo();
+    public List<Poster> getAllPosters(Integer limit, String after, List<String> ids, List<String> fields, String ifNoneMatch, String xCausalToken) throws ApiException {
+        ApiResponse<List<Poster>> localVarResp = getAllPostersWithHttpInfo(limit, after, ids, fields, ifNoneMatch, xCausalToken);
         return localVarResp.getData();
     }
 
     /**
      * Liste tous les posters
-     * 
+     * Sans paramètre, renvoie toute la collection. Avec &#x60;limit&#x60; et/ou &#x60;after&#x60;, renvoie une page triée par id ; le curseur de la page suivante est transmis dans l&#39;en-tête &#x60;X-Next-Cursor&#x60;. Avec &#x60;ids&#x60;, renvoie les posters demandés dans l&#39;ordre, les ids introuvables étant listés dans &#x60;X-Missing-Ids&#x60;. 
+     * @param limit Taille de page (plafonnée par le serveur) (optional)
+     * @param after Curseur opaque reçu dans l&#39;en-tête X-Next-Cursor de la page précédente (optional)
+     * @param ids Ids à récupérer, séparés par des virgules (optional)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @return ApiResponse&lt;List&lt;Poster&gt;&gt;
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  * X-Next-Cursor - Curseur de la page suivante (absent sur la dernière page) <br>  * X-Missing-Ids - Ids demandés via &#x60;ids&#x60; et introuvables, séparés par des virgules <br>  </td></tr>
+        <tr><td> 304 </td><td> La collection n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Paramètre limit, curseur ou liste d&#39;ids invalide </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public ApiResponse<List<Poster>> getAllPostersWithHttpInfo() throws ApiException {
-        okhttp3.Call localVarCall = getAllPostersValidateBeforeCall(null);
+    public ApiResponse<List<Poster>> getAllPostersWithHttpInfo(Integer limit, String after, List<String> ids, List<String> fields, String ifNoneMatch, String xCausalToken) throws ApiException {
+        okhttp3.Call localVarCall = getAllPostersValidateBeforeCall(limit, after, ids, fields, ifNoneMatch, xCausalToken, null);
         Type localVarReturnType = new TypeToken<List<Poster>>(){}.getType();
         return localVarApiClient.execute(localVarCall, localVarReturnType);
     }
 
     /**
      * Liste tous les posters (asynchronously)
-     * 
+     * Sans paramètre, renvoie toute la collection. Avec &#x60;limit&#x60; et/ou &#x60;after&#x60;, renvoie une page triée par id ; le curseur de la page suivante est transmis dans l&#39;en-tête &#x60;X-Next-Cursor&#x60;. Avec &#x60;ids&#x60;, renvoie les posters demandés dans l&#39;ordre, les ids introuvables étant listés dans &#x60;X-Missing-Ids&#x60;. 
+     * @param limit Taille de page (plafonnée par le serveur) (optional)
+     * @param after Curseur opaque reçu dans l&#39;en-tête X-Next-Cursor de la page précédente (optional)
+     * @param ids Ids à récupérer, séparés par des virgules (optional)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @param _callback The callback to be executed when the API call finishes
      * @return The request call
      * @throws ApiException If fail to process the API call, e.g. serializing the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Liste recuperée avec succes </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  * X-Next-Cursor - Curseur de la page suivante (absent sur la dernière page) <br>  * X-Missing-Ids - Ids demandés via &#x60;ids&#x60; et introuvables, séparés par des virgules <br>  </td></tr>
+        <tr><td> 304 </td><td> La collection n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Paramètre limit, curseur ou liste d&#39;ids invalide </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public okhttp3.Call getAllPostersAsync(final ApiCallback<List<Poster>> _callback) throws ApiException {
+    public okhttp3.Call getAllPostersAsync(Integer limit, String after, List<String> ids, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback<List<Poster>> _callback) throws ApiException {
 
-        okhttp3.Call localVarCall = getAllPostersValidateBeforeCall(_callback);
+        okhttp3.Call localVarCall = getAllPostersValidateBeforeCall(limit, after, ids, fields, ifNoneMatch, xCausalToken, _callback);
         Type localVarReturnType = new TypeToken<List<Poster>>(){}.getType();
         localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
         return localVarCall;
@@ -456,18 +668,23 @@ public class PostersApi {
     /**
      * Build call for getPosterById
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @param _callback Callback for upload/download progress
      * @return Call to execute
      * @throws ApiException If fail to serialize the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  </td></tr>
+        <tr><td> 304 </td><td> Le poster n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public okhttp3.Call getPosterByIdCall(String id, final ApiCallback _callback) throws ApiException {
+    public okhttp3.Call getPosterByIdCall(String id, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback _callback) throws ApiException {
         String basePath = null;
         // Operation Servers
         String[] localBasePaths = new String[] {  };
@@ -493,6 +710,18 @@ public class PostersApi {
         Map<String, String> localVarCookieParams = new HashMap<String, String>();
         Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
+        if (fields != null) {
+            localVarCollectionQueryParams.addAll(localVarApiClient.parameterToPairs("csv", "fields", fields));
+        }
+
+        if (ifNoneMatch != null) {
+            localVarHeaderParams.put("If-None-Match", localVarApiClient.parameterToString(ifNoneMatch));
+        }
+
+        if (xCausalToken != null) {
+            localVarHeaderParams.put("X-Causal-Token", localVarApiClient.parameterToString(xCausalToken));
+        }
+
         final String[] localVarAccepts = {
             "application/json"
         };
@@ -513,13 +742,13 @@ public class PostersApi {
     }
 
     @SuppressWarnings("rawtypes")
-    private okhttp3.Call getPosterByIdValidateBeforeCall(String id, final ApiCallback _callback) throws ApiException {
+    private okhttp3.Call getPosterByIdValidateBeforeCall(String id, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback _callback) throws ApiException {
         // verify the required parameter 'id' is set
         if (id == null) {
             throw new ApiException("Missing the required parameter 'id' when calling getPosterById(Async)");
         }
 
-        return getPosterByIdCall(id, _callback);
+        return getPosterByIdCall(id, fields, ifNoneMatch, xCausalToken, _callback);
 
     }
 
@@ -527,18 +756,23 @@ public class PostersApi {
      * Récupère un poster par son id
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @return Poster
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  </td></tr>
+        <tr><td> 304 </td><td> Le poster n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public Poster getPosterById(String id) throws ApiException {
-        ApiResponse<Poster> localVarResp = getPosterByIdWithHttpInfo(id);
+    public Poster getPosterById(String id, List<String> fields, String ifNoneMatch, String xCausalToken) throws ApiException {
+        ApiResponse<Poster> localVarResp = getPosterByIdWithHttpInfo(id, fields, ifNoneMatch, xCausalToken);
         return localVarResp.getData();
     }
 
@@ -546,18 +780,23 @@ public class PostersApi {
      * Récupère un poster par son id
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @return ApiResponse&lt;Poster&gt;
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  </td></tr>
+        <tr><td> 304 </td><td> Le poster n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public ApiResponse<Poster> getPosterByIdWithHttpInfo(String id) throws ApiException {
-        okhttp3.Call localVarCall = getPosterByIdValidateBeforeCall(id, null);
+    public ApiResponse<Poster> getPosterByIdWithHttpInfo(String id, List<String> fields, String ifNoneMatch, String xCausalToken) throws ApiException {
+        okhttp3.Call localVarCall = getPosterByIdValidateBeforeCall(id, fields, ifNoneMatch, xCausalToken, null);
         Type localVarReturnType = new TypeToken<Poster>(){}.getType();
         return localVarApiClient.execute(localVarCall, localVarReturnType);
     }
@@ -566,40 +805,322 @@ public class PostersApi {
      * Récupère un poster par son id (asynchronously)
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param ifNoneMatch ETag d&#39;une réponse précédente ; le serveur répond 304 s&#39;il est toujours valide (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
      * @param _callback The callback to be executed when the API call finishes
      * @return The request call
      * @throws ApiException If fail to process the API call, e.g. serializing the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster récupéré avec succès </td><td>  * ETag -  <br>  * Age -  <br>  * Warning -  <br>  </td></tr>
+        <tr><td> 304 </td><td> Le poster n&#39;a pas changé depuis l&#39;ETag fourni </td><td>  -  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+        <tr><td> 503 </td><td> MongoDB n&#39;a pas répondu à temps et aucune réponse précédente n&#39;est connue </td><td>  * Retry-After -  <br>  </td></tr>
      </table>
      */
-    public okhttp3.Call getPosterByIdAsync(String id, final ApiCallback<Poster> _callback) throws ApiException {
+    public okhttp3.Call getPosterByIdAsync(String id, List<String> fields, String ifNoneMatch, String xCausalToken, final ApiCallback<Poster> _callback) throws ApiException {
 
-        okhttp3.Call localVarCall = getPosterByIdValidateBeforeCall(id, _callback);
+        okhttp3.Call localVarCall = getPosterByIdValidateBeforeCall(id, fields, ifNoneMatch, xCausalToken, _callback);
         Type localVarReturnType = new TypeToken<Poster>(){}.getType();
         localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
         return localVarCall;
     }
+    /**
+     * Build call for getPostersByIds
+     * @param idsRequest  (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
+     * @param _callback Callback for upload/download progress
+     * @return Call to execute
+     * @throws ApiException If fail to serialize the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Posters trouvés et ids manquants </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Liste d&#39;ids vide ou trop longue </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call getPostersByIdsCall(IdsRequest idsRequest, List<String> fields, String xCausalToken, final ApiCallback _callback) throws ApiException {
+        String basePath = null;
+        // Operation Servers
+        String[] localBasePaths = new String[] {  };
+
+        // Determine Base Path to Use
+        if (localCustomBaseUrl != null){
+            basePath = localCustomBaseUrl;
+        } else if ( localBasePaths.length > 0 ) {
+            basePath = localBasePaths[localHostIndex];
+        } else {
+            basePath = null;
+        }
+
+        Object localVarPostBody = idsRequest;
+
+        // create path and map variables
+        String localVarPath = "/api/posters/_mget";
+
+        List<Pair> localVarQueryParams = new ArrayList<Pair>();
+        List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
+        Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+        Map<String, String> localVarCookieParams = new HashMap<String, String>();
+        Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+        if (fields != null) {
+            localVarCollectionQueryParams.addAll(localVarApiClient.parameterToPairs("csv", "fields", fields));
+        }
+
+        if (xCausalToken != null) {
+            localVarHeaderParams.put("X-Causal-Token", localVarApiClient.parameterToString(xCausalToken));
+        }
+
+        final String[] localVarAccepts = {
+            "application/json"
+        };
+        final String localVarAccept = localVarApiClient.selectHeaderAccept(localVarAccepts);
+        if (localVarAccept != null) {
+            localVarHeaderParams.put("Accept", localVarAccept);
+        }
+
+        final String[] localVarContentTypes = {
+            "application/json"
+        };
+        final String localVarContentType = localVarApiClient.selectHeaderContentType(localVarContentTypes);
+        if (localVarContentType != null) {
+            localVarHeaderParams.put("Content-Type", localVarContentType);
+        }
+
+        String[] localVarAuthNames = new String[] { "bearerAuth" };
+        return localVarApiClient.buildCall(basePath, localVarPath, "POST", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarCookieParams, localVarFormParams, localVarAuthNames, _callback);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private okhttp3.Call getPostersByIdsValidateBeforeCall(IdsRequest idsRequest, List<String> fields, String xCausalToken, final ApiCallback _callback) throws ApiException {
+        // verify the required parameter 'idsRequest' is set
+        if (idsRequest == null) {
+            throw new ApiException("Missing the required parameter 'idsRequest' when calling getPostersByIds(Async)");
+        }
+
+        return getPostersByIdsCall(idsRequest, fields, xCausalToken, _callback);
+
+    }
+
+    /**
+     * Récupère plusieurs posters par leurs ids
+     * Variante de &#x60;GET /api/posters?ids&#x3D;&#x60; pour les longues listes. Les posters sont renvoyés dans l&#39;ordre de la demande, les ids introuvables dans &#x60;missing&#x60;. 
+     * @param idsRequest  (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
+     * @return PosterBatch
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Posters trouvés et ids manquants </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Liste d&#39;ids vide ou trop longue </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public PosterBatch getPostersByIds(IdsRequest idsRequest, List<String> fields, String xCausalToken) throws ApiException {
+        ApiResponse<PosterBatch> localVarResp = getPostersByIdsWithHttpInfo(idsRequest, fields, xCausalToken);
+        return localVarResp.getData();
+    }
+
+    /**
+     * Récupère plusieurs posters par leurs ids
+     * Variante de &#x60;GET /api/posters?ids&#x3D;&#x60; pour les longues listes. Les posters sont renvoyés dans l&#39;ordre de la demande, les ids introuvables dans &#x60;missing&#x60;. 
+     * @param idsRequest  (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
+     * @return ApiResponse&lt;PosterBatch&gt;
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Posters trouvés et ids manquants </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Liste d&#39;ids vide ou trop longue </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public ApiResponse<PosterBatch> getPostersByIdsWithHttpInfo(IdsRequest idsRequest, List<String> fields, String xCausalToken) throws ApiException {
+        okhttp3.Call localVarCall = getPostersByIdsValidateBeforeCall(idsRequest, fields, xCausalToken, null);
+        Type localVarReturnType = new TypeToken<PosterBatch>(){}.getType();
+        return localVarApiClient.execute(localVarCall, localVarReturnType);
+    }
+
+    /**
+     * Récupère plusieurs posters par leurs ids (asynchronously)
+     * Variante de &#x60;GET /api/posters?ids&#x3D;&#x60; pour les longues listes. Les posters sont renvoyés dans l&#39;ordre de la demande, les ids introuvables dans &#x60;missing&#x60;. 
+     * @param idsRequest  (required)
+     * @param fields Champs à renvoyer (id, url, titre), séparés par des virgules ; tous par défaut (optional)
+     * @param xCausalToken Jeton reçu après une écriture ; la lecture voit alors cette écriture même si elle est servie par un secondaire (lectures hors primaire uniquement, ignoré sinon)  (optional)
+     * @param _callback The callback to be executed when the API call finishes
+     * @return The request call
+     * @throws ApiException If fail to process the API call, e.g. serializing the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Posters trouvés et ids manquants </td><td>  -  </td></tr>
+        <tr><td> 400 </td><td> Liste d&#39;ids vide ou trop longue </td><td>  -  </td></tr>
+        <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call getPostersByIdsAsync(IdsRequest idsRequest, List<String> fields, String xCausalToken, final ApiCallback<PosterBatch> _callback) throws ApiException {
+
+        okhttp3.Call localVarCall = getPostersByIdsValidateBeforeCall(idsRequest, fields, xCausalToken, _callback);
+        Type localVarReturnType = new TypeToken<PosterBatch>(){}.getType();
+        localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+        return localVarCall;
+    }
+    /**
+     * Build call for importPosters
+     * @param body  (required)
+     * @param _callback Callback for upload/download progress
+     * @return Call to execute
+     * @throws ApiException If fail to serialize the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Progression puis bilan de l&#39;import (une ligne ImportProgress par lot) </td><td>  -  </td></tr>
+        <tr><td> 415 </td><td> Content-Type différent de application/x-ndjson </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call importPostersCall(String body, final ApiCallback _callback) throws ApiException {
+        String basePath = null;
+        // Operation Servers
+        String[] localBasePaths = new String[] {  };
+
+        // Determine Base Path to Use
+        if (localCustomBaseUrl != null){
+            basePath = localCustomBaseUrl;
+        } else if ( localBasePaths.length > 0 ) {
+            basePath = localBasePaths[localHostIndex];
+        } else {
+            basePath = null;
+        }
+
+        Object localVarPostBody = body;
+
+        // create path and map variables
+        String localVarPath = "/api/posters/_import";
+
+        List<Pair> localVarQueryParams = new ArrayList<Pair>();
+        List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
+        Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+        Map<String, String> localVarCookieParams = new HashMap<String, String>();
+        Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+        final String[] localVarAccepts = {
+            "application/x-ndjson",
+            "application/json"
+        };
+        final String localVarAccept = localVarApiClient.selectHeaderAccept(localVarAccepts);
+        if (localVarAccept != null) {
+            localVarHeaderParams.put("Accept", localVarAccept);
+        }
+
+        final String[] localVarContentTypes = {
+            "application/x-ndjson"
+        };
+        final String localVarContentType = localVarApiClient.selectHeaderContentType(localVarContentTypes);
+        if (localVarContentType != null) {
+            localVarHeaderParams.put("Content-Type", localVarContentType);
+        }
+
+        String[] localVarAuthNames = new String[] { "bearerAuth" };
+        return localVarApiClient.buildCall(basePath, localVarPath, "POST", localVarQueryParams, localVarCollectionQueryParams, localVarPostBody, localVarHeaderParams, localVarCookieParams, localVarFormParams, localVarAuthNames, _callback);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private okhttp3.Call importPostersValidateBeforeCall(String body, final ApiCallback _callback) throws ApiException {
+        // verify the required parameter 'body' is set
+        if (body == null) {
+            throw new ApiException("Missing the required parameter 'body' when calling importPosters(Async)");
+        }
+
+        return importPostersCall(body, _callback);
+
+    }
+
+    /**
+     * Importe des posters au format NDJSON
+     * Le corps est lu au fil de l&#39;eau (un poster JSON par ligne) et inséré par lots ; une ligne de progression NDJSON est renvoyée après chaque lot, puis le bilan final (&#x60;done: true&#x60;). Les doublons et lignes incomplètes sont comptés, pas rejetés. 
+     * @param body  (required)
+     * @return ImportProgress
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Progression puis bilan de l&#39;import (une ligne ImportProgress par lot) </td><td>  -  </td></tr>
+        <tr><td> 415 </td><td> Content-Type différent de application/x-ndjson </td><td>  -  </td></tr>
+     </table>
+     */
+    public ImportProgress importPosters(String body) throws ApiException {
+        ApiResponse<ImportProgress> localVarResp = importPostersWithHttpInfo(body);
+        return localVarResp.getData();
+    }
+
+    /**
+     * Importe des posters au format NDJSON
+     * Le corps est lu au fil de l&#39;eau (un poster JSON par ligne) et inséré par lots ; une ligne de progression NDJSON est renvoyée après chaque lot, puis le bilan final (&#x60;done: true&#x60;). Les doublons et lignes incomplètes sont comptés, pas rejetés. 
+     * @param body  (required)
+     * @return ApiResponse&lt;ImportProgress&gt;
+     * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Progression puis bilan de l&#39;import (une ligne ImportProgress par lot) </td><td>  -  </td></tr>
+        <tr><td> 415 </td><td> Content-Type différent de application/x-ndjson </td><td>  -  </td></tr>
+     </table>
+     */
+    public ApiResponse<ImportProgress> importPostersWithHttpInfo(String body) throws ApiException {
+        okhttp3.Call localVarCall = importPostersValidateBeforeCall(body, null);
+        Type localVarReturnType = new TypeToken<ImportProgress>(){}.getType();
+        return localVarApiClient.execute(localVarCall, localVarReturnType);
+    }
+
+    /**
+     * Importe des posters au format NDJSON (asynchronously)
+     * Le corps est lu au fil de l&#39;eau (un poster JSON par ligne) et inséré par lots ; une ligne de progression NDJSON est renvoyée après chaque lot, puis le bilan final (&#x60;done: true&#x60;). Les doublons et lignes incomplètes sont comptés, pas rejetés. 
+     * @param body  (required)
+     * @param _callback The callback to be executed when the API call finishes
+     * @return The request call
+     * @throws ApiException If fail to process the API call, e.g. serializing the request body object
+     * @http.response.details
+     <table summary="Response Details" border="1">
+        <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
+        <tr><td> 200 </td><td> Progression puis bilan de l&#39;import (une ligne ImportProgress par lot) </td><td>  -  </td></tr>
+        <tr><td> 415 </td><td> Content-Type différent de application/x-ndjson </td><td>  -  </td></tr>
+     </table>
+     */
+    public okhttp3.Call importPostersAsync(String body, final ApiCallback<ImportProgress> _callback) throws ApiException {
+
+        okhttp3.Call localVarCall = importPostersValidateBeforeCall(body, _callback);
+        Type localVarReturnType = new TypeToken<ImportProgress>(){}.getType();
+        localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
+        return localVarCall;
+    }
     /**
      * Build call for updatePoster
      * @param id Identifiant du poster (ex. tt0050083) (required)
      * @param posterPatch  (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @param _callback Callback for upload/download progress
      * @return Call to execute
      * @throws ApiException If fail to serialize the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public okhttp3.Call updatePosterCall(String id, PosterPatch posterPatch, final ApiCallback _callback) throws ApiException {
+    public okhttp3.Call updatePosterCall(String id, PosterPatch posterPatch, String ifMatch, final ApiCallback _callback) throws ApiException {
         String basePath = null;
         // Operation Servers
         String[] localBasePaths = new String[] {  };
@@ -625,6 +1146,10 @@ public class PostersApi {
         Map<String, String> localVarCookieParams = new HashMap<String, String>();
         Map<String, Object> localVarFormParams = new HashMap<String, Object>();
 
+        if (ifMatch != null) {
+            localVarHeaderParams.put("If-Match", localVarApiClient.parameterToString(ifMatch));
+        }
+
         final String[] localVarAccepts = {
             "application/json"
         };
@@ -646,7 +1171,7 @@ public class PostersApi {
     }
 
     @SuppressWarnings("rawtypes")
-    private okhttp3.Call updatePosterValidateBeforeCall(String id, PosterPatch posterPatch, final ApiCallback _callback) throws ApiException {
+    private okhttp3.Call updatePosterValidateBeforeCall(String id, PosterPatch posterPatch, String ifMatch, final ApiCallback _callback) throws ApiException {
         // verify the required parameter 'id' is set
         if (id == null) {
             throw new ApiException("Missing the required parameter 'id' when calling updatePoster(Async)");
@@ -657,7 +1182,7 @@ public class PostersApi {
             throw new ApiException("Missing the required parameter 'posterPatch' when calling updatePoster(Async)");
         }
 
-        return updatePosterCall(id, posterPatch, _callback);
+        return updatePosterCall(id, posterPatch, ifMatch, _callback);
 
     }
 
@@ -666,18 +1191,20 @@ public class PostersApi {
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
      * @param posterPatch  (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @return Poster
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public Poster updatePoster(String id, PosterPatch posterPatch) throws ApiException {
-        ApiResponse<Poster> localVarResp = updatePosterWithHttpInfo(id, posterPatch);
+    public Poster updatePoster(String id, PosterPatch posterPatch, String ifMatch) throws ApiException {
+        ApiResponse<Poster> localVarResp = updatePosterWithHttpInfo(id, posterPatch, ifMatch);
         return localVarResp.getData();
     }
 
@@ -686,18 +1213,20 @@ public class PostersApi {
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
      * @param posterPatch  (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @return ApiResponse&lt;Poster&gt;
      * @throws ApiException If fail to call the API, e.g. server error or cannot deserialize the response body
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public ApiResponse<Poster> updatePosterWithHttpInfo(String id, PosterPatch posterPatch) throws ApiException {
-        okhttp3.Call localVarCall = updatePosterValidateBeforeCall(id, posterPatch, null);
+    public ApiResponse<Poster> updatePosterWithHttpInfo(String id, PosterPatch posterPatch, String ifMatch) throws ApiException {
+        okhttp3.Call localVarCall = updatePosterValidateBeforeCall(id, posterPatch, ifMatch, null);
         Type localVarReturnType = new TypeToken<Poster>(){}.getType();
         return localVarApiClient.execute(localVarCall, localVarReturnType);
     }
@@ -707,20 +1236,22 @@ public class PostersApi {
      * 
      * @param id Identifiant du poster (ex. tt0050083) (required)
      * @param posterPatch  (required)
+     * @param ifMatch ETag attendu ; la modification n&#39;est appliquée que si le poster est toujours dans cette version (optional)
      * @param _callback The callback to be executed when the API call finishes
      * @return The request call
      * @throws ApiException If fail to process the API call, e.g. serializing the request body object
      * @http.response.details
      <table summary="Response Details" border="1">
         <tr><td> Status Code </td><td> Description </td><td> Response Headers </td></tr>
-        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  -  </td></tr>
+        <tr><td> 200 </td><td> Poster mis à jour avec succès </td><td>  * ETag -  <br>  * X-Causal-Token -  <br>  </td></tr>
         <tr><td> 404 </td><td> Poster introuvable </td><td>  -  </td></tr>
+        <tr><td> 412 </td><td> Le poster a été modifié depuis l&#39;ETag fourni dans If-Match </td><td>  -  </td></tr>
         <tr><td> 500 </td><td> Erreur serveur </td><td>  -  </td></tr>
      </table>
      */
-    public okhttp3.Call updatePosterAsync(String id, PosterPatch posterPatch, final ApiCallback<Poster> _callback) throws ApiException {
+    public okhttp3.Call updatePosterAsync(String id, PosterPatch posterPatch, String ifMatch, final ApiCallback<Poster> _callback) throws ApiException {
 
-        okhttp3.Call localVarCall = updatePosterValidateBeforeCall(id, posterPatch, _callback);
+        okhttp3.Call localVarCall = updatePosterValidateBeforeCall(id, posterPatch, ifMatch, _callback);
         Type localVarReturnType = new TypeToken<Poster>(){}.getType();
         localVarApiClient.executeAsync(localVarCall, localVarReturnType, _callback);
         return localVarCall;
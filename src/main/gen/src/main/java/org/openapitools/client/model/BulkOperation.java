@@ -0,0 +1,358 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * Opération d&#39;un lot
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-02-19T20:14:07.740936603+01:00[Europe/Paris]", comments = "Generator version: 7.7.0")
+public class BulkOperation {
+  /**
+   * Type d&#39;opération
+   */
+  @JsonAdapter(OpEnum.Adapter.class)
+  public enum OpEnum {
+    CREATE("create"),
+    
+    UPDATE("update"),
+    
+    DELETE("delete");
+
+    private String value;
+
+    OpEnum(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    public static OpEnum fromValue(String value) {
+      for (OpEnum b : OpEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static class Adapter extends TypeAdapter<OpEnum> {
+      @Override
+      public void write(final JsonWriter jsonWriter, final OpEnum enumeration) throws IOException {
+        jsonWriter.value(enumeration.getValue());
+      }
+
+      @Override
+      public OpEnum read(final JsonReader jsonReader) throws IOException {
+        String value =  jsonReader.nextString();
+        return OpEnum.fromValue(value);
+      }
+    }
+
+    public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      String value = jsonElement.getAsString();
+      OpEnum.fromValue(value);
+    }
+  }
+
+  public static final String SERIALIZED_NAME_OP = "op";
+  @SerializedName(SERIALIZED_NAME_OP)
+  private OpEnum op;
+
+  public static final String SERIALIZED_NAME_ID = "id";
+  @SerializedName(SERIALIZED_NAME_ID)
+  private String id;
+
+  public static final String SERIALIZED_NAME_URL = "url";
+  @SerializedName(SERIALIZED_NAME_URL)
+  private String url;
+
+  public static final String SERIALIZED_NAME_TITRE = "titre";
+  @SerializedName(SERIALIZED_NAME_TITRE)
+  private String titre;
+
+  public BulkOperation() {
+  }
+
+  public BulkOperation op(OpEnum op) {
+    this.op = op;
+    return this;
+  }
+
+  /**
+   * Type d&#39;opération
+   * @return op
+   */
+  @javax.annotation.Nonnull
+  public OpEnum getOp() {
+    return op;
+  }
+
+  public void setOp(OpEnum op) {
+    this.op = op;
+  }
+
+
+  public BulkOperation id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Identifiant du poster
+   * @return id
+   */
+  @javax.annotation.Nonnull
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+
+  public BulkOperation url(String url) {
+    this.url = url;
+    return this;
+  }
+
+  /**
+   * URL de l&#39;image (create, update)
+   * @return url
+   */
+  @javax.annotation.Nullable
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+
+  public BulkOperation titre(String titre) {
+    this.titre = titre;
+    return this;
+  }
+
+  /**
+   * Titre du film (create, update)
+   * @return titre
+   */
+  @javax.annotation.Nullable
+  public String getTitre() {
+    return titre;
+  }
+
+  public void setTitre(String titre) {
+    this.titre = titre;
+  }
+
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkOperation bulkOperation = (BulkOperation) o;
+    return Objects.equals(this.op, bulkOperation.op) &&
+        Objects.equals(this.id, bulkOperation.id) &&
+        Objects.equals(this.url, bulkOperation.url) &&
+        Objects.equals(this.titre, bulkOperation.titre);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(op, id, url, titre);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkOperation {\n");
+    sb.append("    op: ").append(toIndentedString(op)).append("\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    url: ").append(toIndentedString(url)).append("\n");
+    sb.append("    titre: ").append(toIndentedString(titre)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("op");
+    openapiFields.add("id");
+    openapiFields.add("url");
+    openapiFields.add("titre");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("op");
+    openapiRequiredFields.add("id");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to BulkOperation
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!BulkOperation.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in BulkOperation is not found in the empty JSON string", BulkOperation.openapiRequiredFields.toString()));
+        }
+      }
+
+      Set<Map.Entry<String, JsonElement>> entries = jsonElement.getAsJsonObject().entrySet();
+      // check to see if the JSON string contains additional fields
+      for (Map.Entry<String, JsonElement> entry : entries) {
+        if (!BulkOperation.openapiFields.contains(entry.getKey())) {
+          throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BulkOperation` properties. JSON: %s", entry.getKey(), jsonElement.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : BulkOperation.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      if (!jsonObj.get("op").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `op` to be a primitive type in the JSON string but got `%s`", jsonObj.get("op").toString()));
+      }
+      // validate the required field `op`
+      OpEnum.validateJsonElement(jsonObj.get("op"));
+      if (!jsonObj.get("id").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `id` to be a primitive type in the JSON string but got `%s`", jsonObj.get("id").toString()));
+      }
+      if ((jsonObj.get("url") != null && !jsonObj.get("url").isJsonNull()) && !jsonObj.get("url").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `url` to be a primitive type in the JSON string but got `%s`", jsonObj.get("url").toString()));
+      }
+      if ((jsonObj.get("titre") != null && !jsonObj.get("titre").isJsonNull()) && !jsonObj.get("titre").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `titre` to be a primitive type in the JSON string but got `%s`", jsonObj.get("titre").toString()));
+      }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!BulkOperation.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'BulkOperation' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<BulkOperation> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(BulkOperation.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<BulkOperation>() {
+           @Override
+           public void write(JsonWriter out, BulkOperation value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public BulkOperation read(JsonReader in) throws IOException {
+             JsonElement jsonElement = elementAdapter.read(in);
+             validateJsonElement(jsonElement);
+             return thisAdapter.fromJsonTree(jsonElement);
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of BulkOperation given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of BulkOperation
+   * @throws IOException if the JSON string is invalid with respect to BulkOperation
+   */
+  public static BulkOperation fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, BulkOperation.class);
+  }
+
+  /**
+   * Convert an instance of BulkOperation to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,286 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.BulkItemResult;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * Résultat d&#39;un lot
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-02-19T20:14:07.740936603+01:00[Europe/Paris]", comments = "Generator version: 7.7.0")
+public class BulkResponse {
+  public static final String SERIALIZED_NAME_SUCCEEDED = "succeeded";
+  @SerializedName(SERIALIZED_NAME_SUCCEEDED)
+  private Integer succeeded;
+
+  public static final String SERIALIZED_NAME_FAILED = "failed";
+  @SerializedName(SERIALIZED_NAME_FAILED)
+  private Integer failed;
+
+  public static final String SERIALIZED_NAME_ITEMS = "items";
+  @SerializedName(SERIALIZED_NAME_ITEMS)
+  private List<BulkItemResult> items = new ArrayList<>();
+
+  public BulkResponse() {
+  }
+
+  public BulkResponse succeeded(Integer succeeded) {
+    this.succeeded = succeeded;
+    return this;
+  }
+
+  /**
+   * Get succeeded
+   * @return succeeded
+   */
+  @javax.annotation.Nonnull
+  public Integer getSucceeded() {
+    return succeeded;
+  }
+
+  public void setSucceeded(Integer succeeded) {
+    this.succeeded = succeeded;
+  }
+
+
+  public BulkResponse failed(Integer failed) {
+    this.failed = failed;
+    return this;
+  }
+
+  /**
+   * Get failed
+   * @return failed
+   */
+  @javax.annotation.Nonnull
+  public Integer getFailed() {
+    return failed;
+  }
+
+  public void setFailed(Integer failed) {
+    this.failed = failed;
+  }
+
+
+  public BulkResponse items(List<BulkItemResult> items) {
+    this.items = items;
+    return this;
+  }
+
+  public BulkResponse addItemsItem(BulkItemResult itemsItem) {
+    if (this.items == null) {
+      this.items = new ArrayList<>();
+    }
+    this.items.add(itemsItem);
+    return this;
+  }
+
+  /**
+   * Get items
+   * @return items
+   */
+  @javax.annotation.Nonnull
+  public List<BulkItemResult> getItems() {
+    return items;
+  }
+
+  public void setItems(List<BulkItemResult> items) {
+    this.items = items;
+  }
+
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkResponse bulkResponse = (BulkResponse) o;
+    return Objects.equals(this.succeeded, bulkResponse.succeeded) &&
+        Objects.equals(this.failed, bulkResponse.failed) &&
+        Objects.equals(this.items, bulkResponse.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(succeeded, failed, items);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkResponse {\n");
+    sb.append("    succeeded: ").append(toIndentedString(succeeded)).append("\n");
+    sb.append("    failed: ").append(toIndentedString(failed)).append("\n");
+    sb.append("    items: ").append(toIndentedString(items)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("succeeded");
+    openapiFields.add("failed");
+    openapiFields.add("items");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("succeeded");
+    openapiRequiredFields.add("failed");
+    openapiRequiredFields.add("items");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to BulkResponse
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!BulkResponse.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in BulkResponse is not found in the empty JSON string", BulkResponse.openapiRequiredFields.toString()));
+        }
+      }
+
+      Set<Map.Entry<String, JsonElement>> entries = jsonElement.getAsJsonObject().entrySet();
+      // check to see if the JSON string contains additional fields
+      for (Map.Entry<String, JsonElement> entry : entries) {
+        if (!BulkResponse.openapiFields.contains(entry.getKey())) {
+          throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `BulkResponse` properties. JSON: %s", entry.getKey(), jsonElement.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : BulkResponse.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // ensure the json data is an array
+      if (!jsonObj.get("items").isJsonArray()) {
+        throw new IllegalArgumentException(String.format("Expected the field `items` to be an array in the JSON string but got `%s`", jsonObj.get("items").toString()));
+      }
+
+      JsonArray jsonArrayitems = jsonObj.getAsJsonArray("items");
+      // validate the required field `items` (array)
+      for (int i = 0; i < jsonArrayitems.size(); i++) {
+        BulkItemResult.validateJsonElement(jsonArrayitems.get(i));
+      };
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!BulkResponse.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'BulkResponse' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<BulkResponse> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(BulkResponse.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<BulkResponse>() {
+           @Override
+           public void write(JsonWriter out, BulkResponse value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public BulkResponse read(JsonReader in) throws IOException {
+             JsonElement jsonElement = elementAdapter.read(in);
+             validateJsonElement(jsonElement);
+             return thisAdapter.fromJsonTree(jsonElement);
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of BulkResponse given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of BulkResponse
+   * @throws IOException if the JSON string is invalid with respect to BulkResponse
+   */
+  public static BulkResponse fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, BulkResponse.class);
+  }
+
+  /**
+   * Convert an instance of BulkResponse to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
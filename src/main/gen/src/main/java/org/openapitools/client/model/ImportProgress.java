@@ -0,0 +1,377 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * Progression d&#39;un import NDJSON
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-02-19T20:14:07.740936603+01:00[Europe/Paris]", comments = "Generator version: 7.7.0")
+public class ImportProgress {
+  public static final String SERIALIZED_NAME_DONE = "done";
+  @SerializedName(SERIALIZED_NAME_DONE)
+  private Boolean done;
+
+  public static final String SERIALIZED_NAME_READ = "read";
+  @SerializedName(SERIALIZED_NAME_READ)
+  private Long read;
+
+  public static final String SERIALIZED_NAME_INSERTED = "inserted";
+  @SerializedName(SERIALIZED_NAME_INSERTED)
+  private Long inserted;
+
+  public static final String SERIALIZED_NAME_DUPLICATES = "duplicates";
+  @SerializedName(SERIALIZED_NAME_DUPLICATES)
+  private Long duplicates;
+
+  public static final String SERIALIZED_NAME_INVALID = "invalid";
+  @SerializedName(SERIALIZED_NAME_INVALID)
+  private Long invalid;
+
+  public static final String SERIALIZED_NAME_ERROR = "error";
+  @SerializedName(SERIALIZED_NAME_ERROR)
+  private String error;
+
+  public static final String SERIALIZED_NAME_CAUSAL_TOKEN = "causalToken";
+  @SerializedName(SERIALIZED_NAME_CAUSAL_TOKEN)
+  private String causalToken;
+
+  public ImportProgress() {
+  }
+
+  public ImportProgress done(Boolean done) {
+    this.done = done;
+    return this;
+  }
+
+  /**
+   * Vrai sur la dernière ligne (bilan)
+   * @return done
+   */
+  @javax.annotation.Nonnull
+  public Boolean getDone() {
+    return done;
+  }
+
+  public void setDone(Boolean done) {
+    this.done = done;
+  }
+
+
+  public ImportProgress read(Long read) {
+    this.read = read;
+    return this;
+  }
+
+  /**
+   * Get read
+   * @return read
+   */
+  @javax.annotation.Nonnull
+  public Long getRead() {
+    return read;
+  }
+
+  public void setRead(Long read) {
+    this.read = read;
+  }
+
+
+  public ImportProgress inserted(Long inserted) {
+    this.inserted = inserted;
+    return this;
+  }
+
+  /**
+   * Get inserted
+   * @return inserted
+   */
+  @javax.annotation.Nonnull
+  public Long getInserted() {
+    return inserted;
+  }
+
+  public void setInserted(Long inserted) {
+    this.inserted = inserted;
+  }
+
+
+  public ImportProgress duplicates(Long duplicates) {
+    this.duplicates = duplicates;
+    return this;
+  }
+
+  /**
+   * Get duplicates
+   * @return duplicates
+   */
+  @javax.annotation.Nonnull
+  public Long getDuplicates() {
+    return duplicates;
+  }
+
+  public void setDuplicates(Long duplicates) {
+    this.duplicates = duplicates;
+  }
+
+
+  public ImportProgress invalid(Long invalid) {
+    this.invalid = invalid;
+    return this;
+  }
+
+  /**
+   * Get invalid
+   * @return invalid
+   */
+  @javax.annotation.Nonnull
+  public Long getInvalid() {
+    return invalid;
+  }
+
+  public void setInvalid(Long invalid) {
+    this.invalid = invalid;
+  }
+
+
+  public ImportProgress error(String error) {
+    this.error = error;
+    return this;
+  }
+
+  /**
+   * Cause de l&#39;arrêt de l&#39;import, le cas échéant
+   * @return error
+   */
+  @javax.annotation.Nullable
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+
+  public ImportProgress causalToken(String causalToken) {
+    this.causalToken = causalToken;
+    return this;
+  }
+
+  /**
+   * Jeton X-Causal-Token après le dernier lot écrit (dernière ligne, lectures causales seulement)
+   * @return causalToken
+   */
+  @javax.annotation.Nullable
+  public String getCausalToken() {
+    return causalToken;
+  }
+
+  public void setCausalToken(String causalToken) {
+    this.causalToken = causalToken;
+  }
+
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ImportProgress importProgress = (ImportProgress) o;
+    return Objects.equals(this.done, importProgress.done) &&
+        Objects.equals(this.read, importProgress.read) &&
+        Objects.equals(this.inserted, importProgress.inserted) &&
+        Objects.equals(this.duplicates, importProgress.duplicates) &&
+        Objects.equals(this.invalid, importProgress.invalid) &&
+        Objects.equals(this.error, importProgress.error) &&
+        Objects.equals(this.causalToken, importProgress.causalToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(done, read, inserted, duplicates, invalid, error, causalToken);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ImportProgress {\n");
+    sb.append("    done: ").append(toIndentedString(done)).append("\n");
+    sb.append("    read: ").append(toIndentedString(read)).append("\n");
+    sb.append("    inserted: ").append(toIndentedString(inserted)).append("\n");
+    sb.append("    duplicates: ").append(toIndentedString(duplicates)).append("\n");
+    sb.append("    invalid: ").append(toIndentedString(invalid)).append("\n");
+    sb.append("    error: ").append(toIndentedString(error)).append("\n");
+    sb.append("    causalToken: ").append(toIndentedString(causalToken)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("done");
+    openapiFields.add("read");
+    openapiFields.add("inserted");
+    openapiFields.add("duplicates");
+    openapiFields.add("invalid");
+    openapiFields.add("error");
+    openapiFields.add("causalToken");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("done");
+    openapiRequiredFields.add("read");
+    openapiRequiredFields.add("inserted");
+    openapiRequiredFields.add("duplicates");
+    openapiRequiredFields.add("invalid");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to ImportProgress
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!ImportProgress.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in ImportProgress is not found in the empty JSON string", ImportProgress.openapiRequiredFields.toString()));
+        }
+      }
+
+      Set<Map.Entry<String, JsonElement>> entries = jsonElement.getAsJsonObject().entrySet();
+      // check to see if the JSON string contains additional fields
+      for (Map.Entry<String, JsonElement> entry : entries) {
+        if (!ImportProgress.openapiFields.contains(entry.getKey())) {
+          throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `ImportProgress` properties. JSON: %s", entry.getKey(), jsonElement.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : ImportProgress.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      if ((jsonObj.get("error") != null && !jsonObj.get("error").isJsonNull()) && !jsonObj.get("error").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `error` to be a primitive type in the JSON string but got `%s`", jsonObj.get("error").toString()));
+      }
+      if ((jsonObj.get("causalToken") != null && !jsonObj.get("causalToken").isJsonNull()) && !jsonObj.get("causalToken").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `causalToken` to be a primitive type in the JSON string but got `%s`", jsonObj.get("causalToken").toString()));
+      }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!ImportProgress.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'ImportProgress' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<ImportProgress> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(ImportProgress.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<ImportProgress>() {
+           @Override
+           public void write(JsonWriter out, ImportProgress value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public ImportProgress read(JsonReader in) throws IOException {
+             JsonElement jsonElement = elementAdapter.read(in);
+             validateJsonElement(jsonElement);
+             return thisAdapter.fromJsonTree(jsonElement);
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of ImportProgress given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of ImportProgress
+   * @throws IOException if the JSON string is invalid with respect to ImportProgress
+   */
+  public static ImportProgress fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, ImportProgress.class);
+  }
+
+  /**
+   * Convert an instance of ImportProgress to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
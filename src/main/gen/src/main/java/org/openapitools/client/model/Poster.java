@@ -47,7 +47,7 @@ import java.util.Set;
 import org.openapitools.client.JSON;
 
 /**
- * Représentation d&#39;un poster de film
+ * Représentation d&#39;un poster de film. Les trois champs sont obligatoires à la création ; une réponse restreinte par &#x60;fields&#x60; ne contient que les champs demandés. 
  */
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-02-19T20:14:07.740936603+01:00[Europe/Paris]", comments = "Generator version: 7.7.0")
 public class Poster {
@@ -75,7 +75,7 @@ public class Poster {
    * Identifiant unique du poster (IMDb id)
    * @return id
    */
-  @javax.annotation.Nonnull
+  @javax.annotation.Nullable
   public String getId() {
     return id;
   }
@@ -94,7 +94,7 @@ public class Poster {
    * URL de l&#39;image du poster
    * @return url
    */
-  @javax.annotation.Nonnull
+  @javax.annotation.Nullable
   public String getUrl() {
     return url;
   }
@@ -113,7 +113,7 @@ public class Poster {
    * Titre du film
    * @return titre
    */
-  @javax.annotation.Nonnull
+  @javax.annotation.Nullable
   public String getTitre() {
     return titre;
   }
@@ -178,9 +178,6 @@ public class Poster {
 
     // a set of required properties/fields (JSON key names)
     openapiRequiredFields = new HashSet<String>();
-    openapiRequiredFields.add("id");
-    openapiRequiredFields.add("url");
-    openapiRequiredFields.add("titre");
   }
 
   /**
@@ -203,21 +200,14 @@ public class Poster {
           throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `Poster` properties. JSON: %s", entry.getKey(), jsonElement.toString()));
         }
       }
-
-      // check to make sure all required properties/fields are present in the JSON string
-      for (String requiredField : Poster.openapiRequiredFields) {
-        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
-          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
-        }
-      }
         JsonObject jsonObj = jsonElement.getAsJsonObject();
-      if (!jsonObj.get("id").isJsonPrimitive()) {
+      if ((jsonObj.get("id") != null && !jsonObj.get("id").isJsonNull()) && !jsonObj.get("id").isJsonPrimitive()) {
         throw new IllegalArgumentException(String.format("Expected the field `id` to be a primitive type in the JSON string but got `%s`", jsonObj.get("id").toString()));
       }
-      if (!jsonObj.get("url").isJsonPrimitive()) {
+      if ((jsonObj.get("url") != null && !jsonObj.get("url").isJsonNull()) && !jsonObj.get("url").isJsonPrimitive()) {
         throw new IllegalArgumentException(String.format("Expected the field `url` to be a primitive type in the JSON string but got `%s`", jsonObj.get("url").toString()));
       }
-      if (!jsonObj.get("titre").isJsonPrimitive()) {
+      if ((jsonObj.get("titre") != null && !jsonObj.get("titre").isJsonNull()) && !jsonObj.get("titre").isJsonPrimitive()) {
         throw new IllegalArgumentException(String.format("Expected the field `titre` to be a primitive type in the JSON string but got `%s`", jsonObj.get("titre").toString()));
       }
   }
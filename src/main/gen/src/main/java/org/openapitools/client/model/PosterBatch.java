@@ -0,0 +1,273 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.Poster;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * Résultat d&#39;une récupération groupée
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2026-02-19T20:14:07.740936603+01:00[Europe/Paris]", comments = "Generator version: 7.7.0")
+public class PosterBatch {
+  public static final String SERIALIZED_NAME_POSTERS = "posters";
+  @SerializedName(SERIALIZED_NAME_POSTERS)
+  private List<Poster> posters = new ArrayList<>();
+
+  public static final String SERIALIZED_NAME_MISSING = "missing";
+  @SerializedName(SERIALIZED_NAME_MISSING)
+  private List<String> missing = new ArrayList<>();
+
+  public PosterBatch() {
+  }
+
+  public PosterBatch posters(List<Poster> posters) {
+    this.posters = posters;
+    return this;
+  }
+
+  public PosterBatch addPostersItem(Poster postersItem) {
+    if (this.posters == null) {
+      this.posters = new ArrayList<>();
+    }
+    this.posters.add(postersItem);
+    return this;
+  }
+
+  /**
+   * Posters trouvés, dans l&#39;ordre de la demande
+   * @return posters
+   */
+  @javax.annotation.Nonnull
+  public List<Poster> getPosters() {
+    return posters;
+  }
+
+  public void setPosters(List<Poster> posters) {
+    this.posters = posters;
+  }
+
+
+  public PosterBatch missing(List<String> missing) {
+    this.missing = missing;
+    return this;
+  }
+
+  public PosterBatch addMissingItem(String missingItem) {
+    if (this.missing == null) {
+      this.missing = new ArrayList<>();
+    }
+    this.missing.add(missingItem);
+    return this;
+  }
+
+  /**
+   * Ids introuvables
+   * @return missing
+   */
+  @javax.annotation.Nonnull
+  public List<String> getMissing() {
+    return missing;
+  }
+
+  public void setMissing(List<String> missing) {
+    this.missing = missing;
+  }
+
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PosterBatch posterBatch = (PosterBatch) o;
+    return Objects.equals(this.posters, posterBatch.posters) &&
+        Objects.equals(this.missing, posterBatch.missing);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(posters, missing);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class PosterBatch {\n");
+    sb.append("    posters: ").append(toIndentedString(posters)).append("\n");
+    sb.append("    missing: ").append(toIndentedString(missing)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("posters");
+    openapiFields.add("missing");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("posters");
+    openapiRequiredFields.add("missing");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to PosterBatch
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!PosterBatch.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in PosterBatch is not found in the empty JSON string", PosterBatch.openapiRequiredFields.toString()));
+        }
+      }
+
+      Set<Map.Entry<String, JsonElement>> entries = jsonElement.getAsJsonObject().entrySet();
+      // check to see if the JSON string contains additional fields
+      for (Map.Entry<String, JsonElement> entry : entries) {
+        if (!PosterBatch.openapiFields.contains(entry.getKey())) {
+          throw new IllegalArgumentException(String.format("The field `%s` in the JSON string is not defined in the `PosterBatch` properties. JSON: %s", entry.getKey(), jsonElement.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : PosterBatch.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // ensure the json data is an array
+      if (!jsonObj.get("posters").isJsonArray()) {
+        throw new IllegalArgumentException(String.format("Expected the field `posters` to be an array in the JSON string but got `%s`", jsonObj.get("posters").toString()));
+      }
+
+      JsonArray jsonArrayposters = jsonObj.getAsJsonArray("posters");
+      // validate the required field `posters` (array)
+      for (int i = 0; i < jsonArrayposters.size(); i++) {
+        Poster.validateJsonElement(jsonArrayposters.get(i));
+      };
+      // ensure the required json array is present
+      if (jsonObj.get("missing") == null) {
+        throw new IllegalArgumentException("Expected the field `linkedContent` to be an array in the JSON string but got `null`");
+      } else if (!jsonObj.get("missing").isJsonArray()) {
+        throw new IllegalArgumentException(String.format("Expected the field `missing` to be an array in the JSON string but got `%s`", jsonObj.get("missing").toString()));
+      }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!PosterBatch.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'PosterBatch' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<PosterBatch> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(PosterBatch.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<PosterBatch>() {
+           @Override
+           public void write(JsonWriter out, PosterBatch value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public PosterBatch read(JsonReader in) throws IOException {
+             JsonElement jsonElement = elementAdapter.read(in);
+             validateJsonElement(jsonElement);
+             return thisAdapter.fromJsonTree(jsonElement);
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of PosterBatch given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of PosterBatch
+   * @throws IOException if the JSON string is invalid with respect to PosterBatch
+   */
+  public static PosterBatch fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, PosterBatch.class);
+  }
+
+  /**
+   * Convert an instance of PosterBatch to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -14,8 +14,13 @@
 package org.openapitools.client.api;
 
 import org.openapitools.client.ApiException;
+import org.openapitools.client.model.BulkOperation;
+import org.openapitools.client.model.BulkResponse;
 import org.openapitools.client.model.ErrorResponse;
+import org.openapitools.client.model.IdsRequest;
+import org.openapitools.client.model.ImportProgress;
 import org.openapitools.client.model.Poster;
+import org.openapitools.client.model.PosterBatch;
 import org.openapitools.client.model.PosterPatch;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -33,6 +38,20 @@ public class PostersApiTest {
 
     private final PostersApi api = new PostersApi();
 
+    /**
+     * Exécute un lot d&#39;opérations create / update / delete
+     *
+     * Les opérations sont exécutées par tranches, sans ordre garanti entre elles. Chaque opération reçoit son propre statut (201, 200, 204, 400, 404, 409). 
+     *
+     * @throws ApiException if the Api call fails
+     */
+    @Test
+    public void bulkPostersTest() throws ApiException {
+        List<BulkOperation> bulkOperation = null;
+        BulkResponse response = api.bulkPosters(bulkOperation);
+        // TODO: test validations
+    }
+
     /**
      * Crée un nouveau poster
      *
@@ -53,18 +72,27 @@ public class PostersApiTest {
     @Test
     public void deletePosterTest() throws ApiException {
         String id = null;
-        api.deletePoster(id);
+        String ifMatch = null;
+        api.deletePoster(id, ifMatch);
         // TODO: test validations
     }
 
     /**
      * Liste tous les posters
      *
+     * Sans paramètre, renvoie toute la collection. Avec &#x60;limit&#x60; et/ou &#x60;after&#x60;, renvoie une page triée par id ; le curseur de la page suivante est transmis dans l&#39;en-tête &#x60;X-Next-Cursor&#x60;. Avec &#x60;ids&#x60;, renvoie les posters demandés dans l&#39;ordre, les ids introuvables étant listés dans &#x60;X-Missing-Ids&#x60;. 
+     *
      * @throws ApiException if the Api call fails
      */
     @Test
     public void getAllPostersTest() throws ApiException {
-        List<Poster> response = api.getAllPosters();
+        Integer limit = null;
+        String after = null;
+        List<String> ids = null;
+        List<String> fields = null;
+        String ifNoneMatch = null;
+        String xCausalToken = null;
+        List<Poster> response = api.getAllPosters(limit, after, ids, fields, ifNoneMatch, xCausalToken);
         // TODO: test validations
     }
 
@@ -76,7 +104,40 @@ public class PostersApiTest {
     @Test
     public void getPosterByIdTest() throws ApiException {
         String id = null;
-        Poster response = api.getPosterById(id);
+        List<String> fields = null;
+        String ifNoneMatch = null;
+        String xCausalToken = null;
+        Poster response = api.getPosterById(id, fields, ifNoneMatch, xCausalToken);
+        // TODO: test validations
+    }
+
+    /**
+     * Récupère plusieurs posters par leurs ids
+     *
+     * Variante de &#x60;GET /api/posters?ids&#x3D;&#x60; pour les longues listes. Les posters sont renvoyés dans l&#39;ordre de la demande, les ids introuvables dans &#x60;missing&#x60;. 
+     *
+     * @throws ApiException if the Api call fails
+     */
+    @Test
+    public void getPostersByIdsTest() throws ApiException {
+        IdsRequest idsRequest = null;
+        List<String> fields = null;
+        String xCausalToken = null;
+        PosterBatch response = api.getPostersByIds(idsRequest, fields, xCausalToken);
+        // TODO: test validations
+    }
+
+    /**
+     * Importe des posters au format NDJSON
+     *
+     * Le corps est lu au fil de l&#39;eau (un poster JSON par ligne) et inséré par lots ; une ligne de progression NDJSON est renvoyée après chaque lot, puis le bilan final (&#x60;done: true&#x60;). Les doublons et lignes incomplètes sont comptés, pas rejetés. 
+     *
+     * @throws ApiException if the Api call fails
+     */
+    @Test
+    public void importPostersTest() throws ApiException {
+        String body = null;
+        ImportProgress response = api.importPosters(body);
         // TODO: test validations
     }
 
@@ -89,7 +150,8 @@ public class PostersApiTest {
     public void updatePosterTest() throws ApiException {
         String id = null;
         PosterPatch posterPatch = null;
-        Poster response = api.updatePoster(id, posterPatch);
+        String ifMatch = null;
+        Poster response = api.updatePoster(id, posterPatch, ifMatch);
         // TODO: test validations
     }
 
@@ -0,0 +1,72 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for BulkOperation
+ */
+public class BulkOperationTest {
+    private final BulkOperation model = new BulkOperation();
+
+    /**
+     * Model tests for BulkOperation
+     */
+    @Test
+    public void testBulkOperation() {
+        // TODO: test BulkOperation
+    }
+
+    /**
+     * Test the property 'op'
+     */
+    @Test
+    public void opTest() {
+        // TODO: test op
+    }
+
+    /**
+     * Test the property 'id'
+     */
+    @Test
+    public void idTest() {
+        // TODO: test id
+    }
+
+    /**
+     * Test the property 'url'
+     */
+    @Test
+    public void urlTest() {
+        // TODO: test url
+    }
+
+    /**
+     * Test the property 'titre'
+     */
+    @Test
+    public void titreTest() {
+        // TODO: test titre
+    }
+
+}
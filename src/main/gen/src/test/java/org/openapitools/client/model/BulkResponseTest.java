@@ -0,0 +1,67 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.BulkItemResult;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for BulkResponse
+ */
+public class BulkResponseTest {
+    private final BulkResponse model = new BulkResponse();
+
+    /**
+     * Model tests for BulkResponse
+     */
+    @Test
+    public void testBulkResponse() {
+        // TODO: test BulkResponse
+    }
+
+    /**
+     * Test the property 'succeeded'
+     */
+    @Test
+    public void succeededTest() {
+        // TODO: test succeeded
+    }
+
+    /**
+     * Test the property 'failed'
+     */
+    @Test
+    public void failedTest() {
+        // TODO: test failed
+    }
+
+    /**
+     * Test the property 'items'
+     */
+    @Test
+    public void itemsTest() {
+        // TODO: test items
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for IdsRequest
+ */
+public class IdsRequestTest {
+    private final IdsRequest model = new IdsRequest();
+
+    /**
+     * Model tests for IdsRequest
+     */
+    @Test
+    public void testIdsRequest() {
+        // TODO: test IdsRequest
+    }
+
+    /**
+     * Test the property 'ids'
+     */
+    @Test
+    public void idsTest() {
+        // TODO: test ids
+    }
+
+}
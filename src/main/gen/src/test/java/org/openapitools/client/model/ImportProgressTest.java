@@ -0,0 +1,88 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for ImportProgress
+ */
+public class ImportProgressTest {
+    private final ImportProgress model = new ImportProgress();
+
+    /**
+     * Model tests for ImportProgress
+     */
+    @Test
+    public void testImportProgress() {
+        // TODO: test ImportProgress
+    }
+
+    /**
+     * Test the property 'done'
+     */
+    @Test
+    public void doneTest() {
+        // TODO: test done
+    }
+
+    /**
+     * Test the property 'read'
+     */
+    @Test
+    public void readTest() {
+        // TODO: test read
+    }
+
+    /**
+     * Test the property 'inserted'
+     */
+    @Test
+    public void insertedTest() {
+        // TODO: test inserted
+    }
+
+    /**
+     * Test the property 'duplicates'
+     */
+    @Test
+    public void duplicatesTest() {
+        // TODO: test duplicates
+    }
+
+    /**
+     * Test the property 'invalid'
+     */
+    @Test
+    public void invalidTest() {
+        // TODO: test invalid
+    }
+
+    /**
+     * Test the property 'error'
+     */
+    @Test
+    public void errorTest() {
+        // TODO: test error
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * API Posters
+ * API REST pour gérer des posters de films (CRUD MongoDB).
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.Poster;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for PosterBatch
+ */
+public class PosterBatchTest {
+    private final PosterBatch model = new PosterBatch();
+
+    /**
+     * Model tests for PosterBatch
+     */
+    @Test
+    public void testPosterBatch() {
+        // TODO: test PosterBatch
+    }
+
+    /**
+     * Test the property 'posters'
+     */
+    @Test
+    public void postersTest() {
+        // TODO: test posters
+    }
+
+    /**
+     * Test the property 'missing'
+     */
+    @Test
+    public void missingTest() {
+        // TODO: test missing
+    }
+
+}
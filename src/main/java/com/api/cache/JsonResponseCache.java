@@ -0,0 +1,131 @@
+package com.api.cache;
+
+import com.api.config.AppConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Reponses JSON deja encodees (UTF-8), servies telles quelles avec un Content-Length exact :
+ * un poster complet par id, et les pages de liste par parametres de requete.
+ *
+ * Les entrees sont lues par l'appelant hors du cache puis proposees (offerPoster, putPage) : aucune lecture
+ * MongoDB ne se fait sous le verrou d'une entree de cache, ce qui epingle un thread virtuel a son porteur.
+ * Les entrees de poster sont invalidees explicitement par les routes d'ecriture. Les pages portent
+ * la generation de la collection lue avant leur construction : une page d'une generation anterieure
+ * n'est jamais servie.
+ */
+public final class JsonResponseCache {
+
+    /** Corps encode et en-tetes associes (nextCursor seulement pour une page). */
+    public record Encoded(byte[] body, String etag, String nextCursor, long generation) {}
+
+    /**
+     * ETag d'une liste ou d'une page, tire de son contenu et de son curseur suivant : le meme sur toutes les
+     * instances pour une meme reponse, alors que la generation ne suit que les ecritures de cette instance.
+     */
+    public static String contentEtag(byte[] body, String nextCursor) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(body);
+        if (nextCursor != null) {
+            digest.update((byte) 0);
+            digest.update(nextCursor.getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"l" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16)) + "\"";
+    }
+
+    private final Cache<String, Encoded> posters;
+    private final Cache<String, Encoded> pages;
+
+    public JsonResponseCache(AppConfig config) {
+        long maxBytes = Math.max(0, config.getLong("cache.json.maxbytes", 32L * 1024 * 1024));
+        Duration ttl = config.getDuration("cache.json.ttl", Duration.ofMinutes(5));
+        // Trois quarts du budget pour les posters, le reste pour les pages
+        this.posters = build(maxBytes - maxBytes / 4, ttl);
+        this.pages = build(maxBytes / 4, ttl);
+    }
+
+    /** Poster encode deja en cache, sans chargement. */
+    public Encoded peekPoster(String id) {
+        return posters.getIfPresent(id);
+    }
+
+    /**
+     * Memorise un poster encode, lu par l'appelant hors du cache, puis le retire si la generation a change
+     * depuis startGeneration (lue avant la lecture) : les routes d'ecriture invalident apres l'increment de
+     * generation, un poster lu avant une ecriture ne reste donc jamais en cache.
+     */
+    public void offerPoster(String id, Encoded encoded, long startGeneration, LongSupplier generation) {
+        posters.put(id, encoded);
+        if (generation.getAsLong() != startGeneration) {
+            posters.asMap().remove(id, encoded);
+        }
+    }
+
+    /** Memorise une page encodee ; elle porte sa generation et n'est servie que pour elle. */
+    public void putPage(String key, Encoded encoded) {
+        pages.put(key, encoded);
+    }
+
+    /** Page encodee deja en cache pour currentGeneration, sans chargement. */
+    public Encoded peekPage(String key, long currentGeneration) {
+        Encoded cached = pages.getIfPresent(key);
+        return cached != null && cached.generation() == currentGeneration ? cached : null;
+    }
+
+    public void invalidatePoster(String id) {
+        posters.invalidate(id);
+        pages.invalidateAll();
+    }
+
+    public void invalidatePosters(Iterable<String> ids) {
+        posters.invalidateAll(ids);
+        pages.invalidateAll();
+    }
+
+    public void invalidatePages() {
+        pages.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("posters", stats(posters));
+        stats.put("pages", stats(pages));
+        return stats;
+    }
+
+    private static Map<String, Object> stats(Cache<String, Encoded> cache) {
+        CacheStats cs = cache.stats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", cs.hitCount());
+        stats.put("misses", cs.missCount());
+        stats.put("evictions", cs.evictionCount());
+        stats.put("hitRate", cs.hitRate());
+        stats.put("size", cache.estimatedSize());
+        return stats;
+    }
+
+    private static Cache<String, Encoded> build(long maxBytes, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Encoded value) -> 64 + 2 * key.length() + value.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.api.cache;
+
+import com.api.config.AppConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Liste complete des posters deja encodee en JSON, partagee sans verrou par tous les lecteurs.
+ *
+ * L'instantane porte la generation de la collection lue avant le parcours. Quand la generation change,
+ * un seul thread de fond reconstruit l'instantane ; en attendant, l'ancien reste servi tant que son age
+ * ne depasse pas listing.snapshot.maxstaleness. Au-dela (ou avant la premiere construction), current()
+ * renvoie null et l'appelant lit la collection lui-meme.
+ */
+public final class ListingSnapshot {
+
+    private static final Logger log = Logger.getLogger(ListingSnapshot.class.getName());
+
+    /**
+     * Corps JSON immuable (ne jamais modifier le tableau), son ETag (JsonResponseCache.contentEtag), generation
+     * et instant du debut de construction.
+     */
+    public record Snapshot(byte[] body, String etag, long generation, long startedAtNanos) {}
+
+    /** Ecrit la liste complete en JSON. */
+    @FunctionalInterface
+    public interface Encoder {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final long maxBytes;
+    private final LongSupplier generation;
+    private final Encoder encoder;
+    private final ExecutorService executor;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    // Generation dont la liste depasse maxBytes : inutile de la reconstruire tant qu'elle n'a pas change
+    private volatile long tooLargeGeneration = Long.MIN_VALUE;
+
+    private final AtomicLong fresh = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public ListingSnapshot(AppConfig config, LongSupplier generation, Encoder encoder) {
+        this.enabled = config.getBoolean("listing.snapshot.enabled", true);
+        this.maxStalenessNanos = config.getDuration("listing.snapshot.maxstaleness", Duration.ofSeconds(2)).toNanos();
+        this.maxBytes = Math.max(0, config.getLong("listing.snapshot.maxbytes", 64L * 1024 * 1024));
+        this.generation = generation;
+        this.encoder = encoder;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "listing-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Instantane servable pour la generation courante, ou null si aucun ne l'est (desactive, trop gros,
+     * pas encore construit ou plus ancien que la borne de fraicheur). Declenche une reconstruction si besoin.
+     */
+    public Snapshot current() {
+        if (!enabled) {
+            return null;
+        }
+        long gen = generation.getAsLong();
+        Snapshot s = snapshot;
+        if (s != null && s.generation() == gen) {
+            fresh.incrementAndGet();
+            return s;
+        }
+        if (gen == tooLargeGeneration) {
+            bypassed.incrementAndGet();
+            return null;
+        }
+        refresh();
+        if (s != null && System.nanoTime() - s.startedAtNanos() <= maxStalenessNanos) {
+            stale.incrementAndGet();
+            return s;
+        }
+        bypassed.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Vrai si la derniere liste encodee depassait listing.snapshot.maxbytes : elle est alors ecrite en flux
+     * par l'appelant, sans jamais etre gardee en entier en memoire.
+     */
+    public boolean tooLarge() {
+        return tooLargeGeneration != Long.MIN_VALUE;
+    }
+
+    /**
+     * Liste complete encodee dans la borne listing.snapshot.maxbytes, ou null si elle la depasse (tooLarge()
+     * devient vrai). Pour les lectures qui ont besoin du corps entier (StaleReadGuard).
+     */
+    public byte[] encode() throws IOException {
+        long gen = generation.getAsLong();
+        BoundedOutputStream out = new BoundedOutputStream(maxBytes);
+        try {
+            encoder.write(out);
+        } catch (TooLargeException e) {
+            tooLargeGeneration = gen;
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    /** Dernier instantane construit, quel que soit son age (null si aucun). */
+    public Snapshot last() {
+        return snapshot;
+    }
+
+    /** Planifie une reconstruction, sauf si une est deja en cours. */
+    public void refresh() {
+        if (enabled && building.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::rebuild);
+            } catch (RuntimeException e) {
+                building.set(false);
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Snapshot s = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("fresh", fresh.get());
+        stats.put("stale", stale.get());
+        stats.put("bypassed", bypassed.get());
+        stats.put("rebuilds", rebuilds.get());
+        stats.put("failures", failures.get());
+        stats.put("bytes", s != null ? s.body().length : 0);
+        stats.put("generation", s != null ? s.generation() : null);
+        return stats;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rebuild() {
+        try {
+            long gen = generation.getAsLong();
+            long startedAt = System.nanoTime();
+            BoundedOutputStream out = new BoundedOutputStream(maxBytes);
+            try {
+                encoder.write(out);
+            } catch (TooLargeException e) {
+                tooLargeGeneration = gen;
+                snapshot = null;
+                log.info("Liste complete au-dela de " + maxBytes + " octets : instantane desactive pour cette generation");
+                return;
+            }
+            tooLargeGeneration = Long.MIN_VALUE;
+            byte[] body = out.toByteArray();
+            snapshot = new Snapshot(body, JsonResponseCache.contentEtag(body, null), gen, startedAt);
+            rebuilds.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            log.log(Level.WARNING, "Echec de la reconstruction de l'instantane de liste", e);
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // Tampon qui refuse de depasser sa borne plutot que de grossir sans limite
+    private static final class BoundedOutputStream extends ByteArrayOutputStream {
+
+        private final long limit;
+
+        BoundedOutputStream(long limit) {
+            super(8192);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) {
+            ensure(1);
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensure(len);
+            super.write(b, off, len);
+        }
+
+        private void ensure(int len) {
+            if (count + (long) len > limit) {
+                throw new TooLargeException();
+            }
+        }
+    }
+
+    private static final class TooLargeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        TooLargeException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.api.cache;
+
+import com.api.config.AppConfig;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Ids existants, resumes dans un filtre de Bloom : un id que le filtre ne contient pas n'existe surement pas,
+ * et sa lecture peut repondre 404 sans interroger MongoDB.
+ *
+ * Le filtre est construit en tache de fond au demarrage (parcours des seuls _id), puis reconstruit toutes les
+ * negative.rebuild pour oublier les suppressions et se redimensionner. Chaque creation passee par cette instance
+ * y est ajoutee apres son ecriture, y compris pendant une reconstruction. Tant que le premier filtre n'est pas
+ * pret, mightContain() repond toujours true.
+ *
+ * Les ecritures faites hors de cette instance (autre replique, shell MongoDB) ne sont vues qu'a la reconstruction
+ * suivante : avec plusieurs ecrivains, desactiver le filtre (negative.enabled=false) ou reduire negative.rebuild.
+ */
+public final class NegativeLookupFilter {
+
+    private static final Logger log = Logger.getLogger(NegativeLookupFilter.class.getName());
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    /** Parcourt tous les ids existants. */
+    @FunctionalInterface
+    public interface IdScan {
+        void forEachId(Consumer<String> sink) throws IOException;
+    }
+
+    private final boolean enabled;
+    private final double fpp;
+    private final Duration rebuildInterval;
+    private final IdScan scan;
+    private final LongSupplier estimatedCount;
+    private final ScheduledExecutorService scheduler;
+
+    // Filtre servi (null tant que le premier n'est pas construit) et filtre en construction (null sinon)
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    private final AtomicLong definiteMisses = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+    private volatile long expected;
+
+    public NegativeLookupFilter(AppConfig config, IdScan scan, LongSupplier estimatedCount) {
+        this.enabled = config.getBoolean("negative.enabled", true);
+        this.fpp = config.getDouble("negative.fpp", 0.01);
+        this.rebuildInterval = config.getDuration("negative.rebuild", Duration.ofMinutes(15));
+        this.scan = scan;
+        this.estimatedCount = estimatedCount;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "negative-lookup-filter");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void start() {
+        if (enabled) {
+            scheduler.execute(this::rebuild);
+        }
+    }
+
+    /** false : l'id n'existe surement pas. true : il existe peut-etre (ou le filtre n'est pas pret). */
+    public boolean mightContain(String id) {
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(id)) {
+            return true;
+        }
+        definiteMisses.incrementAndGet();
+        return false;
+    }
+
+    /** A appeler apres chaque creation reussie. */
+    public void add(String id) {
+        // building avant current : rebuild() publie current avant de remettre building a null
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(id);
+        }
+    }
+
+    /** Le filtre a laisse passer un id que MongoDB ne connait pas (faux positif ou id supprime). */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        BloomFilter filter = current;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ready", filter != null);
+        stats.put("expected", expected);
+        stats.put("bits", filter != null ? filter.bitSize() : 0);
+        stats.put("hashes", filter != null ? filter.hashes() : 0);
+        stats.put("definiteMisses", definiteMisses.get());
+        stats.put("falsePositives", falsePositives.get());
+        stats.put("rebuilds", rebuilds.get());
+        return stats;
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void rebuild() {
+        Duration next = rebuildInterval;
+        try {
+            // Marge x2 : le filtre garde son taux de faux positifs jusqu'a la reconstruction suivante
+            long size = Math.max(1024, estimatedCount.getAsLong() * 2);
+            BloomFilter filter = new BloomFilter(size, fpp);
+            building = filter;
+            scan.forEachId(filter::put);
+            current = filter;
+            expected = size;
+            rebuilds.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Echec de la construction du filtre d'ids, nouvel essai dans " + RETRY_DELAY, e);
+            next = RETRY_DELAY;
+        } finally {
+            building = null;
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::rebuild, next.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.api.cache;
+
+import com.api.config.AppConfig;
+import com.api.entities.Poster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Posters serialises hors du tas Java (cache.offheap.maxbytes, 0 = desactive), derriere le cache findById
+ * de PosterRepository : un catalogue de plusieurs millions de posters reste en memoire sans objets a
+ * parcourir par le ramasse-miettes.
+ *
+ * Le cache est decoupe en cache.offheap.segments segments, choisis par le hachage de l'id, chacun avec son
+ * verrou, ses slabs (ByteBuffer.allocateDirect de cache.offheap.slab.size octets) et son index. Les posters
+ * sont ajoutes a la suite dans le slab courant ; quand il est plein, le slab suivant (en anneau) est recycle
+ * par une horloge (CLOCK) : un poster lu depuis son ecriture a une seconde chance et est recopie en tete du
+ * slab, les autres sont evinces.
+ *
+ * L'index de chaque segment est une table a adressage ouvert (sondage lineaire, suppression par decalage
+ * arriere), elle aussi hors du tas : 16 octets par case, hachage 64 bits de l'id et position du poster.
+ * Deux ids de meme hachage ne cohabitent pas : le second remplace le premier.
+ *
+ * Comme le cache findById, il est rempli par l'appelant apres une lecture et invalide apres chaque ecriture.
+ */
+public final class OffHeapPosterCache {
+
+    // Enregistrement : [etat (1)][longueur totale (4)][hachage de l'id (8)][poster serialise]
+    private static final int HEADER = 13;
+    private static final byte LIVE = 1;
+    private static final byte REFERENCED = 2;
+    // Case d'index : [hachage (8)][slab << 32 | position (8)], hachage 0 = case vide
+    private static final int SLOT = 16;
+    // Taille moyenne estimee d'un poster serialise, pour dimensionner l'index
+    private static final int AVERAGE_ENTRY = 128;
+
+    private final Segment[] segments;
+    private final long capacityBytes;
+    private final long indexBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder secondChances = new LongAdder();
+
+    public OffHeapPosterCache(AppConfig config) {
+        long maxBytes = Math.max(0, config.getLong("cache.offheap.maxbytes", 0));
+        int count = Integer.highestOneBit(Math.max(1, config.getInt("cache.offheap.segments", 16)));
+        int slabSize = Math.max(64 * 1024, config.getInt("cache.offheap.slab.size", 4 * 1024 * 1024));
+        if (maxBytes == 0) {
+            this.segments = null;
+            this.capacityBytes = 0;
+            this.indexBytes = 0;
+            return;
+        }
+        long perSegment = maxBytes / count;
+        // Au moins deux slabs par segment : l'un se remplit pendant que l'autre est recycle
+        slabSize = (int) Math.max(1024, Math.min(slabSize, perSegment / 2));
+        int slabs = (int) Math.max(2, Math.min(Short.MAX_VALUE, perSegment / slabSize));
+        int slots = Integer.highestOneBit((int) Math.min(1 << 26, Math.max(16, perSegment / AVERAGE_ENTRY)) * 2 - 1);
+
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(slabs, slabSize, slots);
+        }
+        this.capacityBytes = (long) count * slabs * slabSize;
+        this.indexBytes = (long) count * slots * SLOT;
+    }
+
+    public boolean enabled() {
+        return segments != null;
+    }
+
+    /** Poster en cache, ou null (absent, evince, ou cache desactive). */
+    public Poster get(String id) {
+        if (segments == null) {
+            return null;
+        }
+        long hash = hash(id);
+        byte[] payload = segment(hash).read(hash);
+        Poster poster = payload != null ? decode(payload) : null;
+        // Un autre id de meme hachage : absent
+        if (poster == null || !poster.getId().equals(id)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return poster;
+    }
+
+    /** Memorise un poster complet (remplace la version en cache). */
+    public void put(Poster poster) {
+        if (segments == null) {
+            return;
+        }
+        byte[] payload = encode(poster);
+        long hash = hash(poster.getId());
+        Segment segment = segment(hash);
+        if (payload == null || HEADER + payload.length > segment.slabSize) {
+            rejected.increment();
+            return;
+        }
+        segment.write(hash, payload);
+        puts.increment();
+    }
+
+    public void invalidate(String id) {
+        if (segments == null) {
+            return;
+        }
+        long hash = hash(id);
+        segment(hash).remove(hash);
+    }
+
+    /** Compteurs exposes par GET /api/_stats. */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled());
+        if (segments == null) {
+            return stats;
+        }
+        long entries = 0;
+        long liveBytes = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                entries += segment.entries;
+                liveBytes += segment.liveBytes;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        long h = hits.sum();
+        long m = misses.sum();
+        stats.put("entries", entries);
+        stats.put("liveBytes", liveBytes);
+        stats.put("capacityBytes", capacityBytes);
+        stats.put("indexBytes", indexBytes);
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        stats.put("puts", puts.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("secondChances", secondChances.sum());
+        return stats;
+    }
+
+    private Segment segment(long hash) {
+        return segments[(int) (hash >>> 32) & (segments.length - 1)];
+    }
+
+    /*
+     * Un segment : slabs en anneau, ecrits a la suite (current, position), et index a adressage ouvert.
+     * Tout acces passe par lock, tenu le temps d'une copie de quelques centaines d'octets (pas de
+     * synchronized : threads virtuels).
+     */
+    private final class Segment {
+        final ReentrantLock lock = new ReentrantLock();
+        final ByteBuffer[] slabs;
+        final int[] limits;
+        final int slabSize;
+        final ByteBuffer index;
+        final int mask;
+        final int maxEntries;
+        int current;
+        int position;
+        int entries;
+        long liveBytes;
+
+        Segment(int slabCount, int slabSize, int slots) {
+            this.slabs = new ByteBuffer[slabCount];
+            for (int i = 0; i < slabCount; i++) {
+                slabs[i] = ByteBuffer.allocateDirect(slabSize);
+            }
+            this.limits = new int[slabCount];
+            this.slabSize = slabSize;
+            this.index = ByteBuffer.allocateDirect(slots * SLOT);
+            this.mask = slots - 1;
+            // Charge maximale de 3/4 : le sondage lineaire trouve toujours une case vide
+            this.maxEntries = slots / 4 * 3;
+        }
+
+        byte[] read(long hash) {
+            lock.lock();
+            try {
+                int slot = find(hash);
+                if (slot < 0) {
+                    return null;
+                }
+                long location = index.getLong(slot * SLOT + 8);
+                ByteBuffer slab = slabs[(int) (location >>> 32)];
+                int offset = (int) location;
+                byte[] payload = new byte[slab.getInt(offset + 1) - HEADER];
+                slab.get(offset + HEADER, payload);
+                slab.put(offset, (byte) (LIVE | REFERENCED));
+                return payload;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void write(long hash, byte[] payload) {
+            int length = HEADER + payload.length;
+            lock.lock();
+            try {
+                int slot = find(hash);
+                if (slot >= 0) {
+                    kill(slot);
+                }
+                makeRoom(length);
+                ByteBuffer slab = slabs[current];
+                slab.put(position, LIVE);
+                slab.putInt(position + 1, length);
+                slab.putLong(position + 5, hash);
+                slab.put(position + HEADER, payload);
+                insert(hash, (long) current << 32 | position);
+                position += length;
+                entries++;
+                liveBytes += length;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(long hash) {
+            lock.lock();
+            try {
+                int slot = find(hash);
+                if (slot >= 0) {
+                    kill(slot);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Recycle les slabs suivants jusqu'a avoir la place d'un enregistrement et une case d'index
+        private void makeRoom(int length) {
+            int turns = 0;
+            while (position + length > slabSize || entries >= maxEntries) {
+                limits[current] = position;
+                current = (current + 1) % slabs.length;
+                // Apres un tour complet sans place (tout a ete lu), plus de seconde chance
+                reclaim(current, turns++ < slabs.length);
+            }
+        }
+
+        // Vide le slab k : les posters lus depuis leur ecriture sont recopies en tete, les autres evinces
+        private void reclaim(int k, boolean secondChance) {
+            ByteBuffer slab = slabs[k];
+            int end = limits[k];
+            int read = 0;
+            int write = 0;
+            while (read < end) {
+                byte state = slab.get(read);
+                int length = slab.getInt(read + 1);
+                if ((state & LIVE) != 0) {
+                    long hash = slab.getLong(read + 5);
+                    int slot = find(hash);
+                    if (secondChance && (state & REFERENCED) != 0) {
+                        if (write != read) {
+                            byte[] record = new byte[length];
+                            slab.get(read, record);
+                            slab.put(write, record);
+                        }
+                        slab.put(write, LIVE);
+                        index.putLong(slot * SLOT + 8, (long) k << 32 | write);
+                        write += length;
+                        secondChances.increment();
+                    } else {
+                        delete(slot);
+                        entries--;
+                        liveBytes -= length;
+                        evictions.increment();
+                    }
+                }
+                read += length;
+            }
+            limits[k] = 0;
+            position = write;
+        }
+
+        // Retire le poster de la case slot : enregistrement marque mort (ignore au recyclage), case liberee
+        private void kill(int slot) {
+            long location = index.getLong(slot * SLOT + 8);
+            ByteBuffer slab = slabs[(int) (location >>> 32)];
+            int offset = (int) location;
+            slab.put(offset, (byte) 0);
+            liveBytes -= slab.getInt(offset + 1);
+            entries--;
+            delete(slot);
+        }
+
+        private int find(long hash) {
+            int i = (int) hash & mask;
+            while (true) {
+                long h = index.getLong(i * SLOT);
+                if (h == 0) {
+                    return -1;
+                }
+                if (h == hash) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void insert(long hash, long location) {
+            int i = (int) hash & mask;
+            while (index.getLong(i * SLOT) != 0) {
+                i = (i + 1) & mask;
+            }
+            index.putLong(i * SLOT, hash);
+            index.putLong(i * SLOT + 8, location);
+        }
+
+        // Suppression sans marqueur : les cases suivantes de la meme grappe sont rapprochees de leur case ideale
+        private void delete(int slot) {
+            int i = slot;
+            int j = slot;
+            while (true) {
+                j = (j + 1) & mask;
+                long h = index.getLong(j * SLOT);
+                if (h == 0) {
+                    break;
+                }
+                int ideal = (int) h & mask;
+                boolean movable = i <= j ? (ideal <= i || ideal > j) : (ideal <= i && ideal > j);
+                if (movable) {
+                    index.putLong(i * SLOT, h);
+                    index.putLong(i * SLOT + 8, index.getLong(j * SLOT + 8));
+                    i = j;
+                }
+            }
+            index.putLong(i * SLOT, 0);
+            index.putLong(i * SLOT + 8, 0);
+        }
+    }
+
+    // FNV-1a 64 bits puis melange final (murmur3) : bits bas pour l'index, bits hauts pour le segment
+    private static long hash(String id) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h ^= id.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    // null si un champ depasse 64 Ko (writeUTF) : le poster n'est pas mis en cache
+    private static byte[] encode(Poster poster) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(poster.getVersion());
+            out.writeUTF(poster.getId());
+            writeNullable(out, poster.getUrl());
+            writeNullable(out, poster.getTitre());
+        } catch (IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Poster decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long version = in.readLong();
+            Poster poster = new Poster(in.readUTF(), readNullable(in), readNullable(in));
+            poster.setVersion(version);
+            return poster;
+        } catch (IOException e) {
+            throw new IllegalStateException("Poster hors tas illisible", e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
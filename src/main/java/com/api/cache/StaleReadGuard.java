@@ -0,0 +1,241 @@
+package com.api.cache;
+
+import com.api.config.AppConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lectures MongoDB bornees en temps (stale-while-revalidate).
+ *
+ * Chaque lecture s'execute sur un pool dedie et borne. Si elle depasse resilience.budget (ou echoue, ou si le
+ * pool est sature), la derniere valeur connue pour la cle est servie, marquee perimee, pendant que la lecture
+ * continue en arriere-plan et met a jour la derniere valeur connue a son retour. Sans valeur connue, on attend
+ * jusqu'a resilience.timeout avant d'abandonner (UnavailableException). Une seule lecture est en vol par cle.
+ *
+ * Desactive (resilience.enabled=false), read() appelle simplement le chargeur dans le thread courant.
+ *
+ * Avec des threads virtuels (threads.virtual), les lectures s'executent chacune sur un thread virtuel : un
+ * pool de plateforme de resilience.pool.size threads limiterait les milliers de requetes concurrentes a
+ * autant de lectures simultanees et servirait le reste perime (ou en 503). Le pool de connexions MongoDB
+ * (mongo.pool.maxsize, mongo.pool.maxwait) borne alors seul les lectures en cours.
+ */
+public final class StaleReadGuard {
+
+    /** Valeur servie ; ageSeconds n'a de sens que si stale. */
+    public record Read(JsonResponseCache.Encoded value, boolean stale, long ageSeconds) {}
+
+    /** Aucune valeur connue et MongoDB n'a pas repondu a temps. */
+    public static final class UnavailableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public UnavailableException(Throwable cause) {
+            super("MongoDB ne repond pas a temps", cause);
+        }
+    }
+
+    private record Stored(JsonResponseCache.Encoded value, long storedAtMillis) {}
+
+    private final boolean enabled;
+    private final long budgetNanos;
+    private final long timeoutNanos;
+    private final ExecutorService executor;
+    private final Cache<String, Stored> lastKnown;
+    private final ConcurrentHashMap<String, CompletableFuture<JsonResponseCache.Encoded>> inFlight = new ConcurrentHashMap<>();
+    // Variantes de cle ("<cle>|<variante>") deja lues : peu nombreuses (combinaisons de champs), parcourues par invalidate
+    private final Set<String> variants = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong unavailable = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public StaleReadGuard(AppConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param loaders executeur des lectures (threads virtuels), ferme par close() ; null pour le pool borne
+     *                resilience.pool.size / resilience.pool.queue
+     */
+    public StaleReadGuard(AppConfig config, ExecutorService loaders) {
+        this.enabled = config.getBoolean("resilience.enabled", true);
+        this.budgetNanos = config.getDuration("resilience.budget", Duration.ofMillis(200)).toNanos();
+        this.timeoutNanos = Math.max(budgetNanos, config.getDuration("resilience.timeout", Duration.ofSeconds(5)).toNanos());
+        if (loaders != null) {
+            this.executor = loaders;
+        } else {
+            int threads = Math.max(1, config.getInt("resilience.pool.size", 16));
+            int queue = Math.max(1, config.getInt("resilience.pool.queue", 256));
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queue), r -> {
+                Thread t = new Thread(r, "mongo-read-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        }
+        long maxBytes = Math.max(0, config.getLong("resilience.stale.maxbytes", 64L * 1024 * 1024));
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Stored value) -> 64 + 2 * key.length() + value.value().body().length)
+                .expireAfterWrite(config.getDuration("resilience.stale.ttl", Duration.ofHours(1)))
+                .build();
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Valeur pour key, chargee par loader (qui peut renvoyer null : rien n'est memorise, la reponse est null).
+     * @throws UnavailableException si aucune valeur n'est connue et que le chargement n'aboutit pas a temps
+     */
+    public Read read(String key, Supplier<JsonResponseCache.Encoded> loader) {
+        if (!enabled) {
+            return new Read(loader.get(), false, 0);
+        }
+        CompletableFuture<JsonResponseCache.Encoded> future;
+        try {
+            future = load(key, loader);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return fallback(key, null, e);
+        }
+        try {
+            return new Read(future.get(budgetNanos, TimeUnit.NANOSECONDS), false, 0);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            return fallback(key, future, e);
+        } catch (ExecutionException e) {
+            failures.incrementAndGet();
+            return fallback(key, null, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnavailableException(e);
+        }
+    }
+
+    /**
+     * Oublie la derniere valeur connue de key et de ses variantes ("<key>|..."), apres une ecriture : un
+     * poster supprime ou modifie ne doit pas etre servi perime si MongoDB defaille ensuite. Une lecture en
+     * vol pour ces cles n'est plus memorisee a son retour.
+     */
+    public void invalidate(String key) {
+        forget(key);
+        for (String variant : variants) {
+            forget(key + "|" + variant);
+        }
+    }
+
+    // Dans cet ordre : la lecture en vol memorise sa valeur sous le verrou de son entree de inFlight (voir load)
+    private void forget(String key) {
+        inFlight.remove(key);
+        lastKnown.invalidate(key);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("timeouts", timeouts.get());
+        stats.put("failures", failures.get());
+        stats.put("rejected", rejected.get());
+        stats.put("staleServed", staleServed.get());
+        stats.put("unavailable", unavailable.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("inFlight", inFlight.size());
+        stats.put("lastKnown", lastKnown.estimatedSize());
+        return stats;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Lecture en vol pour key, ou nouvelle lecture soumise au pool
+    private CompletableFuture<JsonResponseCache.Encoded> load(String key, Supplier<JsonResponseCache.Encoded> loader) {
+        int bar = key.indexOf('|');
+        if (bar >= 0) {
+            variants.add(key.substring(bar + 1));
+        }
+        CompletableFuture<JsonResponseCache.Encoded> created = new CompletableFuture<>();
+        CompletableFuture<JsonResponseCache.Encoded> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    JsonResponseCache.Encoded value = loader.get();
+                    // Memorisee seulement si invalidate n'a pas retire la lecture entre-temps (atomique avec forget)
+                    inFlight.computeIfPresent(key, (k, current) -> {
+                        if (current != created) {
+                            return current;
+                        }
+                        if (value != null) {
+                            lastKnown.put(key, new Stored(value, System.currentTimeMillis()));
+                        } else {
+                            lastKnown.invalidate(key);
+                        }
+                        return null;
+                    });
+                    created.complete(value);
+                } catch (Throwable t) {
+                    inFlight.remove(key, created);
+                    created.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            throw e;
+        }
+        return created;
+    }
+
+    // Derniere valeur connue ; sinon attente de la lecture en vol jusqu'a timeoutNanos au total
+    private Read fallback(String key, CompletableFuture<JsonResponseCache.Encoded> pending, Throwable cause) {
+        Stored stored = lastKnown.getIfPresent(key);
+        if (stored != null) {
+            staleServed.incrementAndGet();
+            long age = Math.max(0, (System.currentTimeMillis() - stored.storedAtMillis()) / 1000);
+            return new Read(stored.value(), true, age);
+        }
+        if (pending != null) {
+            try {
+                return new Read(pending.get(timeoutNanos - budgetNanos, TimeUnit.NANOSECONDS), false, 0);
+            } catch (ExecutionException e) {
+                failures.incrementAndGet();
+                cause = e.getCause();
+            } catch (TimeoutException e) {
+                timeouts.incrementAndGet();
+                cause = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cause = e;
+            }
+        }
+        unavailable.incrementAndGet();
+        throw new UnavailableException(cause);
+    }
+}
@@ -0,0 +1,132 @@
+package com.api.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Configuration applicative (hors JWT, voir JwtConfig).
+ *
+ * Une cle est resolue dans l'ordre : variable d'environnement
+ * (api.page.max -> API_PAGE_MAX), propriete systeme, puis application.properties.
+ */
+public final class AppConfig {
+    private static final AppConfig INSTANCE = new AppConfig(loadProperties());
+
+    private final Properties props;
+
+    private AppConfig(Properties props) {
+        this.props = props;
+    }
+
+    public static AppConfig get() {
+        return INSTANCE;
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = read(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String raw = read(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Format invalide pour " + key + ": " + raw, e);
+        }
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String raw = read(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Format invalide pour " + key + ": " + raw, e);
+        }
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String raw = read(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Format invalide pour " + key + ": " + raw, e);
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String raw = read(key);
+        return raw != null ? Boolean.parseBoolean(raw.trim()) : defaultValue;
+    }
+
+    public Duration getDuration(String key, Duration defaultValue) {
+        String raw = read(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return parseDuration(raw);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Format invalide pour " + key + ": " + raw, e);
+        }
+    }
+
+    private String read(String key) {
+        String envKey = key.toUpperCase(Locale.ROOT).replace('.', '_');
+        String fromEnv = System.getenv(envKey);
+        if (fromEnv != null && !fromEnv.isBlank()) {
+            return fromEnv;
+        }
+        String fromProp = System.getProperty(key);
+        if (fromProp != null && !fromProp.isBlank()) {
+            return fromProp;
+        }
+        String fromFile = props.getProperty(key);
+        return (fromFile != null && !fromFile.isBlank()) ? fromFile : null;
+    }
+
+    private static Properties loadProperties() {
+        Properties props = new Properties();
+        try (InputStream in = AppConfig.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossible de charger application.properties", e);
+        }
+        return props;
+    }
+
+    private static Duration parseDuration(String raw) {
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < value.length() && Character.isDigit(value.charAt(i))) {
+            i++;
+        }
+        if (i == 0) {
+            throw new IllegalArgumentException("Pas de valeur numérique");
+        }
+        long number = Long.parseLong(value.substring(0, i));
+        String unit = value.substring(i).trim();
+        return switch (unit) {
+            case "ms", "millis" -> Duration.ofMillis(number);
+            case "s", "sec", "secs", "second", "seconds", "" -> Duration.ofSeconds(number);
+            case "m", "min", "mins", "minute", "minutes" -> Duration.ofMinutes(number);
+            case "h", "hr", "hrs", "hour", "hours" -> Duration.ofHours(number);
+            case "d", "day", "days" -> Duration.ofDays(number);
+            default -> throw new IllegalArgumentException("Unité inconnue: " + unit);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/** Resultat d'une operation du lot, a l'index de la requete ; message seulement en cas d'echec. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult(int index, String op, String id, int status, String message) {}
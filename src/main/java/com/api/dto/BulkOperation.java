@@ -0,0 +1,7 @@
+package com.api.dto;
+
+/**
+ * Operation d'un lot POST /api/posters/_bulk.
+ * op : "create" (id, url, titre), "update" (id + url et/ou titre) ou "delete" (id).
+ */
+public record BulkOperation(String op, String id, String url, String titre) {}
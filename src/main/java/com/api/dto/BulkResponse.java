@@ -0,0 +1,5 @@
+package com.api.dto;
+
+import java.util.List;
+
+public record BulkResponse(int succeeded, int failed, List<BulkItemResult> items) {}
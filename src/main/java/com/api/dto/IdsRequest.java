@@ -0,0 +1,6 @@
+package com.api.dto;
+
+import java.util.List;
+
+/** Corps de POST /api/posters/_mget. */
+public record IdsRequest(List<String> ids) {}
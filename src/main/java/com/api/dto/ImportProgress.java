@@ -0,0 +1,12 @@
+package com.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Ligne de progression de POST /api/posters/_import, emise apres chaque lot ecrit
+ * puis une derniere fois avec done = true (ou error si l'import s'est interrompu). causalToken : valeur de
+ * X-Causal-Token apres le dernier lot ecrit, l'en-tete ne pouvant plus changer une fois la reponse commencee.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportProgress(boolean done, long read, long inserted, long duplicates, long invalid, String error,
+                             String causalToken) {}
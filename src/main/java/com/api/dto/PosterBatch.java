@@ -0,0 +1,8 @@
+package com.api.dto;
+
+import com.api.entities.Poster;
+
+import java.util.List;
+
+/** Posters trouves, dans l'ordre de la demande, et ids introuvables. */
+public record PosterBatch(List<Poster> posters, List<String> missing) {}
@@ -1,10 +1,18 @@
 package com.api.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Les champs absents (projection ?fields=) ne sont pas serialises
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class Poster {
 
     private String id;
     private String url;
     private String titre;
+    // Version du document (incrementee a chaque modification), exposee via l'en-tete ETag uniquement
+    @JsonIgnore
+    private long version;
 
     public Poster() {}
 
@@ -22,4 +30,9 @@ public class Poster {
 
     public String getTitre() { return titre; }
     public void setTitre(String titre) { this.titre = titre; }
+
+    @JsonIgnore
+    public long getVersion() { return version; }
+    @JsonIgnore
+    public void setVersion(long version) { this.version = version; }
 }
@@ -0,0 +1,29 @@
+package com.api.repositories;
+
+import com.api.entities.Poster;
+import org.bson.RawBsonDocument;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moteur qui sait aussi lire sans bloquer (async.enabled) : aucun thread n'attend le stockage, les futurs
+ * et les flux se terminent sur les threads du moteur. Seul MongoStorageEngine l'implemente ; PosterRepository
+ * n'emprunte ces lectures que si son moteur est de ce type et asyncEnabled().
+ */
+public interface AsyncStorageEngine extends StorageEngine {
+
+    /** true si les lectures non bloquantes sont ouvertes (client non bloquant demarre). */
+    boolean asyncEnabled();
+
+    /** Equivalent non bloquant de findById(id, fields, null) ; le futur vaut null si le poster n'existe pas. */
+    CompletableFuture<Poster> findByIdAsync(String id, Set<String> fields);
+
+    /** Equivalent non bloquant de findPage(afterId, limit, fields, null). */
+    CompletableFuture<List<RawBsonDocument>> findPageAsync(String afterId, int limit, Set<String> fields);
+
+    /** Toute la collection triee par _id, au debit des demandes (request) du consommateur. */
+    Publisher<RawBsonDocument> findAllAsync(Set<String> fields);
+}
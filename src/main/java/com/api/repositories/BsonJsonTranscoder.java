@@ -0,0 +1,184 @@
+package com.api.repositories;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.bson.BsonSerializationException;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Ecrit un document poster BSON brut (RawBsonDocument) en JSON, directement depuis ses octets :
+ * ni Document, ni Poster, ni String intermediaires pour les valeurs.
+ *
+ * Meme sortie que la serialisation Jackson d'un Poster : _id devient id, seuls id, url et titre
+ * (chaines non nulles) sont ecrits, dans l'ordre du document ; version et tout autre champ sont ignores.
+ * Les documents du schema compact (voir PosterSchema) donnent le meme JSON : _id entier ecrit "tt%07d",
+ * p et u recomposes en url, t ecrit titre.
+ */
+public final class BsonJsonTranscoder {
+
+    private static final byte[] ID = "_id".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] URL = "url".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TITRE = "titre".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PREFIX = "p".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "u".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TITLE = "t".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte TYPE_STRING = 0x02;
+    private static final byte TYPE_INT32 = 0x10;
+
+    private BsonJsonTranscoder() {}
+
+    /**
+     * @param fields champs a ecrire (id, url, titre), null pour tous
+     */
+    public static void write(RawBsonDocument doc, JsonGenerator gen, Set<String> fields) throws IOException {
+        ByteBuffer buffer = doc.getByteBuffer().asNIO();
+        byte[] bytes;
+        int start;
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            start = buffer.arrayOffset() + buffer.position();
+        } else {
+            bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            start = 0;
+        }
+
+        int end = start + readInt(bytes, start) - 1;   // dernier octet : 0x00 de fin de document
+        int pos = start + 4;
+        // Schema compact : u, p et t releves pendant le parcours, ecrits a la fin dans l'ordre id, url, titre
+        // (un $set de p sur un document sans prefixe l'ajoute apres u : l'ordre des champs n'est pas garanti)
+        byte[] prefix = null;
+        int suffix = -1;
+        int title = -1;
+        gen.writeStartObject();
+        while (pos < end) {
+            byte type = bytes[pos++];
+            int nameStart = pos;
+            while (bytes[pos] != 0) {
+                pos++;
+            }
+            int nameLength = pos - nameStart;
+            pos++;
+
+            if (type == TYPE_STRING && matches(bytes, nameStart, nameLength, SUFFIX)) {
+                suffix = pos;
+                pos += 4 + readInt(bytes, pos);
+                continue;
+            }
+            if (type == TYPE_STRING && matches(bytes, nameStart, nameLength, TITLE)) {
+                title = pos;
+                pos += 4 + readInt(bytes, pos);
+                continue;
+            }
+            String field = fieldName(bytes, nameStart, nameLength);
+            if (type == TYPE_STRING && field != null && wanted(fields, field)) {
+                int length = readInt(bytes, pos);      // octets UTF-8 + 0x00 final
+                gen.writeFieldName(field);
+                gen.writeUTF8String(bytes, pos + 4, length - 1);
+                pos += 4 + length;
+            } else if (type == TYPE_INT32 && matches(bytes, nameStart, nameLength, ID)) {
+                if (wanted(fields, "id")) {
+                    gen.writeFieldName("id");
+                    gen.writeString(PosterSchema.Compact.imdbId(readInt(bytes, pos)));
+                }
+                pos += 4;
+            } else if (type == TYPE_INT32 && matches(bytes, nameStart, nameLength, PREFIX)) {
+                prefix = PosterSchema.Compact.prefixBytes(readInt(bytes, pos));
+                pos += 4;
+            } else {
+                pos = skipValue(type, bytes, pos);
+            }
+        }
+        if (suffix >= 0 && wanted(fields, "url")) {
+            int length = readInt(bytes, suffix) - 1;
+            gen.writeFieldName("url");
+            if (prefix != null) {
+                byte[] url = new byte[prefix.length + length];
+                System.arraycopy(prefix, 0, url, 0, prefix.length);
+                System.arraycopy(bytes, suffix + 4, url, prefix.length, length);
+                gen.writeUTF8String(url, 0, url.length);
+            } else {
+                gen.writeUTF8String(bytes, suffix + 4, length);
+            }
+        }
+        if (title >= 0 && wanted(fields, "titre")) {
+            gen.writeFieldName("titre");
+            gen.writeUTF8String(bytes, title + 4, readInt(bytes, title) - 1);
+        }
+        gen.writeEndObject();
+    }
+
+    private static boolean wanted(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /** Id de l'API d'un document poster, classic ou compact. */
+    public static String id(RawBsonDocument doc) {
+        BsonValue id = doc.get("_id");
+        return id.isInt32() ? PosterSchema.Compact.imdbId(id.asInt32().getValue()) : id.asString().getValue();
+    }
+
+    // Nom JSON du champ s'il fait partie de la representation d'un poster, null sinon
+    private static String fieldName(byte[] bytes, int offset, int length) {
+        if (matches(bytes, offset, length, ID)) {
+            return "id";
+        }
+        if (matches(bytes, offset, length, URL)) {
+            return "url";
+        }
+        if (matches(bytes, offset, length, TITRE)) {
+            return "titre";
+        }
+        return null;
+    }
+
+    private static boolean matches(byte[] bytes, int offset, int length, byte[] name) {
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Position qui suit la valeur de type donne commencant a pos (specification BSON 1.1)
+    private static int skipValue(byte type, byte[] bytes, int pos) {
+        return switch (type) {
+            case 0x01, 0x09, 0x11, 0x12 -> pos + 8;                           // double, date, timestamp, int64
+            case 0x02, 0x0D, 0x0E -> pos + 4 + readInt(bytes, pos);           // string, code, symbole
+            case 0x03, 0x04, 0x0F -> pos + readInt(bytes, pos);               // document, tableau, code avec portee
+            case 0x05 -> pos + 5 + readInt(bytes, pos);                       // binaire
+            case 0x06, 0x0A, (byte) 0xFF, 0x7F -> pos;                        // undefined, null, minKey, maxKey
+            case 0x07 -> pos + 12;                                            // ObjectId
+            case 0x08 -> pos + 1;                                             // booleen
+            case 0x0B -> skipCString(bytes, skipCString(bytes, pos));        // expression reguliere
+            case 0x0C -> pos + 4 + readInt(bytes, pos) + 12;                  // DBPointer
+            case 0x10 -> pos + 4;                                             // int32
+            case 0x13 -> pos + 16;                                            // decimal128
+            default -> throw new BsonSerializationException("Type BSON inconnu : " + type);
+        };
+    }
+
+    private static int skipCString(byte[] bytes, int pos) {
+        while (bytes[pos] != 0) {
+            pos++;
+        }
+        return pos + 1;
+    }
+
+    private static int readInt(byte[] bytes, int pos) {
+        return (bytes[pos] & 0xFF)
+                | (bytes[pos + 1] & 0xFF) << 8
+                | (bytes[pos + 2] & 0xFF) << 16
+                | (bytes[pos + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,145 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.mongodb.session.ClientSession;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Jeton de lecture causale (en-tete X-Causal-Token) : instant d'une ecriture (operationTime) et temps du
+ * cluster qui l'accompagne ($clusterTime, signe par MongoDB quand l'authentification est active).
+ *
+ * Une lecture faite dans une session causale avancee a ce jeton voit l'ecriture, quel que soit le membre
+ * du replica set qui la sert : le secondaire attend d'avoir applique l'oplog jusqu'a cet instant.
+ */
+public record CausalToken(BsonTimestamp operationTime, BsonDocument clusterTime) {
+
+    // Un $clusterTime signe tient dans quelques centaines d'octets
+    private static final int MAX_ENCODED_LENGTH = 1024;
+    private static final String HMAC = "HmacSHA256";
+
+    /**
+     * Forme transmise au client : document BSON {t, c} en base64url, "." puis sa signature HMAC-SHA256 en
+     * base64url. L'en-tete vient du client : sans signature, un operationTime invente (dans le futur) ferait
+     * attendre chaque lecture causale jusqu'a son delai maximal. La cle est derivee de
+     * mongo.read.causal.secret, a defaut de security.jwt.secret : toutes les instances doivent partager le
+     * meme secret pour accepter les jetons les unes des autres.
+     */
+    public static final class Signer {
+
+        private final SecretKeySpec key;
+
+        public Signer(AppConfig config) {
+            String secret = config.getString("mongo.read.causal.secret", null);
+            if (secret == null || secret.isBlank()) {
+                secret = config.getString("security.jwt.secret", null);
+            }
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException("mongo.read.causal.secret (ou security.jwt.secret) est obligatoire");
+            }
+            // Cle propre aux jetons causaux : une signature de jeton ne peut servir ailleurs
+            byte[] derived = mac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC),
+                    "X-Causal-Token".getBytes(StandardCharsets.UTF_8));
+            this.key = new SecretKeySpec(derived, HMAC);
+        }
+
+        public String encode(CausalToken token) {
+            byte[] bytes = token.toBson();
+            Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+            return base64.encodeToString(bytes) + "." + base64.encodeToString(mac(key, bytes));
+        }
+
+        /** @throws IllegalArgumentException si le jeton n'a pas ete produit par encode() avec le meme secret */
+        public CausalToken parse(String encoded) {
+            String value = encoded.trim();
+            int dot = value.indexOf('.');
+            if (value.isEmpty() || value.length() > MAX_ENCODED_LENGTH || dot < 0) {
+                throw new IllegalArgumentException("Jeton de lecture causale invalide.");
+            }
+            byte[] bytes;
+            byte[] signature;
+            try {
+                bytes = Base64.getUrlDecoder().decode(value.substring(0, dot));
+                signature = Base64.getUrlDecoder().decode(value.substring(dot + 1));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Jeton de lecture causale invalide.", e);
+            }
+            if (!MessageDigest.isEqual(mac(key, bytes), signature)) {
+                throw new IllegalArgumentException("Jeton de lecture causale invalide.");
+            }
+            return fromBson(bytes);
+        }
+
+        private static byte[] mac(SecretKeySpec key, byte[] bytes) {
+            try {
+                Mac mac = Mac.getInstance(HMAC);
+                mac.init(key);
+                return mac.doFinal(bytes);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // Document BSON {t, c}
+    private byte[] toBson() {
+        BsonDocument doc = new BsonDocument("t", operationTime);
+        if (clusterTime != null) {
+            doc.append("c", clusterTime);
+        }
+        RawBsonDocument raw = new RawBsonDocument(doc, new BsonDocumentCodec());
+        ByteBuffer buffer = raw.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static CausalToken fromBson(byte[] bytes) {
+        try {
+            BsonDocument doc;
+            try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+                doc = new BsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+            }
+            BsonValue time = doc.get("t");
+            BsonValue cluster = doc.get("c");
+            if (time == null || !time.isTimestamp() || (cluster != null && !cluster.isDocument())) {
+                throw new IllegalArgumentException("Jeton de lecture causale invalide.");
+            }
+            return new CausalToken(time.asTimestamp(), cluster != null ? cluster.asDocument() : null);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Jeton de lecture causale invalide.", e);
+        }
+    }
+
+    /** Le plus recent des deux jetons (null ignore). */
+    static CausalToken latest(CausalToken a, CausalToken b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.operationTime.compareTo(b.operationTime) >= 0 ? a : b;
+    }
+
+    /** Avance une session causale : ses lectures suivantes portent afterClusterTime = operationTime. */
+    void applyTo(ClientSession session) {
+        if (clusterTime != null) {
+            session.advanceClusterTime(clusterTime);
+        }
+        session.advanceOperationTime(operationTime);
+    }
+}
@@ -0,0 +1,99 @@
+package com.api.repositories;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs du pool de connexions d'un client MongoDB (tous serveurs confondus), exposes par GET /api/_stats.
+ *
+ * checkedOut et waiting sont des jauges instantanees : un waiting durablement non nul, ou un temps d'attente
+ * maximal proche de mongo.pool.maxwait, indique un pool plus petit que le nombre de threads qui lisent.
+ */
+final class ConnectionPoolMetrics implements ConnectionPoolListener {
+
+    private final AtomicLong maxSize = new AtomicLong();
+    private final AtomicLong open = new AtomicLong();
+    private final AtomicLong checkedOut = new AtomicLong();
+    private final AtomicLong waiting = new AtomicLong();
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder waitMicros = new LongAdder();
+    private final AtomicLong maxWaitMicros = new AtomicLong();
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        maxSize.set(event.getSettings().getMaxSize());
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        open.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        open.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        waiting.decrementAndGet();
+        checkedOut.incrementAndGet();
+        checkouts.increment();
+        recordWait(event.getElapsedTime(TimeUnit.MICROSECONDS));
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        waiting.decrementAndGet();
+        if (event.getReason() == ConnectionCheckOutFailedEvent.Reason.TIMEOUT) {
+            timeouts.increment();
+        } else {
+            failures.increment();
+        }
+        maxWaitMicros.accumulateAndGet(event.getElapsedTime(TimeUnit.MICROSECONDS), Math::max);
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        checkedOut.decrementAndGet();
+    }
+
+    Map<String, Object> stats() {
+        long count = checkouts.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxSize", maxSize.get());
+        stats.put("open", open.get());
+        stats.put("checkedOut", checkedOut.get());
+        stats.put("waiting", waiting.get());
+        stats.put("checkouts", count);
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failures", failures.sum());
+        stats.put("avgWaitMicros", count == 0 ? 0 : waitMicros.sum() / count);
+        stats.put("maxWaitMicros", maxWaitMicros.get());
+        return stats;
+    }
+
+    private void recordWait(long micros) {
+        waitMicros.add(micros);
+        maxWaitMicros.accumulateAndGet(micros, Math::max);
+    }
+}
@@ -0,0 +1,279 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.api.dto.BulkOperation;
+import com.api.entities.Poster;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Posters en memoire (storage.engine=memory), sans aucune E/S : reference pour les tests de charge de
+ * l'API, ou replique en lecture quasi seule chargee au demarrage depuis storage.memory.seed (NDJSON, un
+ * poster par ligne, format de POST /api/posters/_import). Rien n'est persiste : tout est perdu a l'arret.
+ *
+ * Les posters sont dans une ConcurrentHashMap, chacun avec son document BSON deja encode. Les listes et
+ * les pages sont lues dans une copie triee par _id (copy-on-write) : reconstruite a la premiere lecture
+ * qui suit une ecriture, puis partagee sans verrou par toutes les lectures jusqu'a la suivante.
+ * Les mises a jour conditionnelles (If-Match) sont atomiques par poster (compute de la map).
+ */
+public final class InMemoryStorageEngine implements StorageEngine {
+
+    private static final Logger log = Logger.getLogger(InMemoryStorageEngine.class.getName());
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+    private static final Comparator<Stored> BY_ID = Comparator.comparing(Stored::id);
+
+    private final ConcurrentHashMap<String, Stored> posters = new ConcurrentHashMap<>();
+    // Incremente apres chaque ecriture dans la map : une copie triee est valable tant qu'il n'a pas bouge
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicReference<Listing> listing = new AtomicReference<>(new Listing(0, new Stored[0]));
+    private final LongAdder listingRebuilds = new LongAdder();
+
+    // Poster immuable, avec sa forme BSON pour les listes (voir BsonJsonTranscoder)
+    private record Stored(String id, String url, String titre, long version, RawBsonDocument raw) {
+
+        static Stored of(String id, String url, String titre, long version) {
+            BsonDocument doc = new BsonDocument("_id", new BsonString(id));
+            if (url != null) {
+                doc.append("url", new BsonString(url));
+            }
+            if (titre != null) {
+                doc.append("titre", new BsonString(titre));
+            }
+            doc.append("version", new BsonInt64(version));
+            return new Stored(id, url, titre, version, new RawBsonDocument(doc, CODEC));
+        }
+
+        Poster toPoster() {
+            Poster poster = new Poster(id, url, titre);
+            poster.setVersion(version);
+            return poster;
+        }
+    }
+
+    // Copie triee par _id, valable pour modifications == modification
+    private record Listing(long modification, Stored[] sorted) {}
+
+    public InMemoryStorageEngine(AppConfig config) {
+        String seed = config.getString("storage.memory.seed", null);
+        if (seed != null) {
+            load(Path.of(seed.trim()));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void close() {
+        posters.clear();
+    }
+
+    @Override
+    public void forEach(Set<String> fields, RawPosterConsumer consumer, CausalToken after) throws IOException {
+        for (Stored stored : sorted()) {
+            consumer.accept(stored.raw());
+        }
+    }
+
+    @Override
+    public List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields, CausalToken after) {
+        Stored[] sorted = sorted();
+        int from = 0;
+        if (afterId != null) {
+            int index = Arrays.binarySearch(sorted, new Stored(afterId, null, null, 0, null), BY_ID);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = (int) Math.min(sorted.length, (long) from + limit);
+        List<RawBsonDocument> page = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            page.add(sorted[i].raw());
+        }
+        return page;
+    }
+
+    @Override
+    public Poster findById(String id, Set<String> fields, CausalToken after) {
+        Stored stored = posters.get(id);
+        return stored != null ? stored.toPoster() : null;
+    }
+
+    @Override
+    public List<Poster> findByIds(Collection<String> ids, Set<String> fields, CausalToken after) {
+        List<Poster> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Stored stored = posters.get(id);
+            if (stored != null) {
+                found.add(stored.toPoster());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Set<String> existingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (posters.containsKey(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public long estimatedCount() {
+        return posters.size();
+    }
+
+    @Override
+    public boolean insert(Poster poster) {
+        Stored stored = Stored.of(poster.getId(), poster.getUrl(), poster.getTitre(), poster.getVersion());
+        if (posters.putIfAbsent(poster.getId(), stored) != null) {
+            return false;
+        }
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public Poster update(String id, String url, String titre, Collection<Long> expectedVersions) {
+        boolean[] applied = new boolean[1];
+        Stored updated = posters.computeIfPresent(id, (key, current) -> {
+            if (expectedVersions != null && !expectedVersions.contains(current.version())) {
+                return current;
+            }
+            applied[0] = true;
+            return Stored.of(key, url != null ? url : current.url(), titre != null ? titre : current.titre(),
+                    current.version() + 1);
+        });
+        if (!applied[0]) {
+            return null;
+        }
+        modifications.incrementAndGet();
+        return updated.toPoster();
+    }
+
+    @Override
+    public boolean delete(String id, Collection<Long> expectedVersions) {
+        Stored current = posters.get(id);
+        while (current != null && (expectedVersions == null || expectedVersions.contains(current.version()))) {
+            if (posters.remove(id, current)) {
+                modifications.incrementAndGet();
+                return true;
+            }
+            current = posters.get(id);
+        }
+        return false;
+    }
+
+    @Override
+    public int insertMany(List<Poster> posters) {
+        int inserted = 0;
+        for (Poster poster : posters) {
+            if (insert(poster)) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public Map<Integer, Failure> bulkWrite(List<BulkOperation> operations) {
+        Map<Integer, Failure> failures = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BulkOperation op = operations.get(i);
+            switch (op.op()) {
+                case "create" -> {
+                    Poster poster = new Poster(op.id(), op.url(), op.titre());
+                    poster.setVersion(StorageEngine.newVersion());
+                    if (!insert(poster)) {
+                        failures.put(i, new Failure(409, "Un poster avec l'id '" + op.id() + "' existe deja."));
+                    }
+                }
+                // Comme bulkWrite sur MongoDB : un poster supprime entre-temps n'est pas une erreur
+                case "delete" -> delete(op.id(), null);
+                default -> update(op.id(), blankToNull(op.url()), blankToNull(op.titre()), null);
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("posters", posters.size());
+        stats.put("listingRebuilds", listingRebuilds.sum());
+        return stats;
+    }
+
+    /*
+     * Copie triee courante, reconstruite si une ecriture a eu lieu depuis. Les ecritures font leur put dans
+     * la map avant d'incrementer modifications : une copie faite apres lecture du compteur contient au
+     * moins toutes les ecritures qu'il compte. Plusieurs lecteurs peuvent reconstruire en meme temps, la
+     * copie la plus recente est conservee.
+     */
+    private Stored[] sorted() {
+        long modification = modifications.get();
+        Listing current = listing.get();
+        if (current.modification() == modification) {
+            return current.sorted();
+        }
+        Stored[] sorted = posters.values().toArray(new Stored[0]);
+        Arrays.sort(sorted, BY_ID);
+        listingRebuilds.increment();
+        Listing rebuilt = new Listing(modification, sorted);
+        listing.accumulateAndGet(rebuilt, (a, b) -> a.modification() >= b.modification() ? a : b);
+        return sorted;
+    }
+
+    private void load(Path seed) {
+        ObjectMapper mapper = new ObjectMapper();
+        int loaded = 0;
+        try (MappingIterator<Poster> lines = mapper.readerFor(Poster.class).readValues(Files.newBufferedReader(seed))) {
+            while (lines.hasNext()) {
+                Poster poster = lines.next();
+                if (poster.getId() == null || poster.getId().isBlank()) {
+                    continue;
+                }
+                poster.setVersion(StorageEngine.newVersion());
+                if (insert(poster)) {
+                    loaded++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de lire storage.memory.seed : " + seed, e);
+        }
+        log.info(loaded + " posters charges depuis " + seed);
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value : null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.api.repositories;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index secondaires dont les requetes de l'API ont besoin, declares ici plutot que crees a la main, et
+ * rapproches de ceux de la collection au demarrage, en tache de fond (mongo.indexes.reconcile) :
+ *   absent          -> cree
+ *   present         -> rien
+ *   divergent       -> signale (cles ou collation differentes) : a supprimer a la main pour qu'il soit recree
+ *   non declare     -> signale, jamais supprime : voir ses acces dans GET /api/_indexes avant de le retirer
+ *
+ * Une requete n'utilise un index avec collation que si elle porte la meme collation (TITRE_COLLATION).
+ */
+final class IndexRegistry {
+
+    private static final Logger log = Logger.getLogger(IndexRegistry.class.getName());
+
+    /** Comparaison des titres sans tenir compte de la casse (accents compris). */
+    static final Collation TITRE_COLLATION = Collation.builder()
+            .locale("fr").collationStrength(CollationStrength.SECONDARY).build();
+
+    record Declared(String name, Bson keys, IndexOptions options, String usage) {}
+
+    private final MongoCollection<Document> collection;
+    private final List<Declared> declared;
+    // Etat de chaque index apres rapprochement, par nom
+    private final Map<String, String> states = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private volatile String reconcile = "desactive";
+    private volatile long reconcileMillis;
+
+    IndexRegistry(MongoCollection<Document> collection, PosterSchema schema) {
+        this.collection = collection;
+        this.declared = List.of(
+                new Declared("titre_ci", Indexes.ascending(schema.titreField()),
+                        new IndexOptions().name("titre_ci").collation(TITRE_COLLATION),
+                        "filtre et tri par titre, sans casse"));
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "index-registry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Rapprochement en tache de fond : le demarrage n'attend pas la construction des index. */
+    void reconcileAsync() {
+        reconcile = "en cours";
+        executor.execute(this::reconcile);
+    }
+
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private void reconcile() {
+        long start = System.nanoTime();
+        try {
+            Map<String, Document> existing = new LinkedHashMap<>();
+            for (Document index : collection.listIndexes()) {
+                existing.put(index.getString("name"), index);
+            }
+            for (Declared index : declared) {
+                Document current = existing.get(index.name());
+                if (current == null) {
+                    create(index);
+                } else {
+                    String difference = difference(index, current);
+                    states.put(index.name(), difference == null ? "present" : "divergent : " + difference);
+                    if (difference != null) {
+                        log.warning("Index " + index.name() + " divergent (" + difference + ") : a supprimer pour qu'il soit recree");
+                    }
+                }
+            }
+            for (String name : existing.keySet()) {
+                if (!name.equals("_id_") && declared.stream().noneMatch(index -> index.name().equals(name))) {
+                    states.put(name, "non declare");
+                    log.info("Index " + name + " non declare par l'API (voir GET /api/_indexes avant de le supprimer)");
+                }
+            }
+            reconcile = "termine";
+        } catch (MongoException e) {
+            reconcile = "echec : " + e.getMessage();
+            log.log(Level.WARNING, "Rapprochement des index impossible", e);
+        } finally {
+            reconcileMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    private void create(Declared index) {
+        states.put(index.name(), "creation");
+        try {
+            collection.createIndex(index.keys(), index.options());
+            states.put(index.name(), "cree");
+            log.info("Index " + index.name() + " cree (" + index.usage() + ")");
+        } catch (MongoException e) {
+            states.put(index.name(), "echec : " + e.getMessage());
+            log.log(Level.WARNING, "Creation de l'index " + index.name() + " impossible", e);
+        }
+    }
+
+    // Difference de cles ou de collation entre l'index declare et celui de la collection, null si aucune
+    private static String difference(Declared index, Document current) {
+        Document keys = Document.parse(index.keys().toBsonDocument().toJson());
+        if (!keys.equals(current.get("key", Document.class))) {
+            return "cles " + current.get("key", Document.class).toJson();
+        }
+        Collation collation = index.options().getCollation();
+        Document actual = current.get("collation", Document.class);
+        if (collation == null) {
+            return actual != null ? "collation " + actual.toJson() : null;
+        }
+        if (actual == null
+                || !collation.getLocale().equals(actual.getString("locale"))
+                || collation.getStrength().getIntRepresentation() != actual.getInteger("strength", 3)) {
+            return "collation " + (actual != null ? actual.toJson() : "absente");
+        }
+        return null;
+    }
+
+    /**
+     * Index de la collection et leurs acces ($indexStats), avec l'etat du rapprochement. Les compteurs sont
+     * ceux du serveur interroge (le primaire) depuis son demarrage (since) : sur un replica set, verifier
+     * aussi les secondaires avant de supprimer un index qu'ils servent (mongo.read.preference).
+     */
+    Map<String, Object> stats() {
+        List<Map<String, Object>> indexes = new ArrayList<>();
+        for (Document usage : collection.aggregate(List.of(new Document("$indexStats", new Document())))) {
+            String name = usage.getString("name");
+            Map<String, Object> index = new LinkedHashMap<>();
+            index.put("name", name);
+            index.put("key", usage.get("key", Document.class));
+            Declared declaredIndex = declared.stream().filter(d -> d.name().equals(name)).findFirst().orElse(null);
+            index.put("declared", name.equals("_id_") || declaredIndex != null);
+            if (declaredIndex != null) {
+                index.put("usage", declaredIndex.usage());
+            }
+            index.put("state", states.getOrDefault(name, name.equals("_id_") ? "present" : "non declare"));
+            Document accesses = usage.get("accesses", Document.class);
+            index.put("ops", accesses.get("ops", Number.class).longValue());
+            index.put("since", accesses.getDate("since").toInstant().toString());
+            index.put("host", usage.getString("host"));
+            indexes.add(index);
+        }
+        for (Declared index : declared) {
+            if (indexes.stream().noneMatch(i -> i.get("name").equals(index.name()))) {
+                Map<String, Object> missing = new LinkedHashMap<>();
+                missing.put("name", index.name());
+                missing.put("key", Document.parse(index.keys().toBsonDocument().toJson()));
+                missing.put("declared", true);
+                missing.put("usage", index.usage());
+                missing.put("state", states.getOrDefault(index.name(), "absent"));
+                indexes.add(missing);
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("reconcile", reconcile);
+        stats.put("reconcileMillis", reconcileMillis);
+        stats.put("indexes", indexes);
+        return stats;
+    }
+}
@@ -0,0 +1,810 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.api.dto.BulkOperation;
+import com.api.entities.Poster;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Posters dans un journal local (storage.engine=log), pour les deploiements sans MongoDB : fichiers
+ * segment-<seq>.log de storage.log.segment.size octets dans storage.log.dir, projetes en memoire (mmap).
+ *
+ * Chaque ecriture ajoute un enregistrement a la fin du segment actif : [longueur][crc32c][type][document BSON],
+ * type PUT (poster complet) ou DELETE ({_id}). Un index en memoire (id -> segment, position) donne chaque
+ * poster en une lecture dans le segment projete, sans appel systeme. Les listes et les pages sont lues dans
+ * une copie triee des ids, reconstruite apres une creation ou une suppression (comme InMemoryStorageEngine).
+ * Les ecritures sont serialisees par un verrou, les lectures n'en prennent aucun : les mises a jour
+ * conditionnelles (If-Match) sont atomiques.
+ *
+ * Durabilite (storage.log.fsync) : always (segment force sur disque avant de repondre), interval (force
+ * toutes les storage.log.fsync.interval : une panne de la machine perd au plus cet intervalle d'ecritures),
+ * never (laisse faire le systeme). Un arret du seul processus ne perd rien, quelle que soit la politique.
+ *
+ * Compaction en tache de fond, quand la part d'octets morts (versions remplacees, suppressions) depasse
+ * storage.log.compaction.ratio : les enregistrements vivants des segments scelles sont recopies dans
+ * compacted-<seq>.log (renomme une fois ecrit et force sur disque), puis ces segments sont supprimes.
+ *
+ * Au demarrage, l'index est reconstruit en relisant le fichier compacte puis les segments plus recents,
+ * dans l'ordre. Un enregistrement incomplet ou corrompu (crc) marque la fin d'un segment : le segment actif
+ * reprend les ecritures a cette position. Un seul processus a la fois ouvre le repertoire (fichier LOCK).
+ */
+public final class LogStorageEngine implements StorageEngine {
+
+    private static final Logger log = Logger.getLogger(LogStorageEngine.class.getName());
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+    private static final Pattern SEGMENT = Pattern.compile("segment-(\\d+)\\.log");
+    private static final Pattern COMPACTED = Pattern.compile("compacted-(\\d+)\\.log");
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    // longueur du document (4) + crc32c de type et document (4) + type (1)
+    private static final int HEADER = 9;
+
+    private enum Fsync { ALWAYS, INTERVAL, NEVER }
+
+    private final Path dir;
+    private final int segmentSize;
+    private final Fsync fsync;
+    private final double compactionRatio;
+    private final ScheduledExecutorService scheduler;
+    // Verrou du repertoire : deux processus ecrivant le meme journal le corrompraient
+    private FileChannel lockChannel;
+
+    // Serialise les ecritures et la bascule de l'index apres une compaction (pas de synchronized : threads virtuels)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    // Fichier compacte puis segments scelles, du plus ancien au plus recent (sous writeLock)
+    private final List<Segment> sealed = new ArrayList<>();
+    private volatile Segment active;
+    // Ecritures pas encore forcees sur disque (fsync=interval)
+    private volatile boolean dirty;
+
+    // Incremente apres chaque creation ou suppression : la copie triee des ids est valable tant qu'il n'a pas bouge
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicReference<Listing> listing = new AtomicReference<>(new Listing(-1, new String[0]));
+
+    // Octets des enregistrements references par l'index, et de tous les enregistrements des fichiers
+    private final AtomicLong liveBytes = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final LongAdder fsyncs = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder listingRebuilds = new LongAdder();
+    private long recovered;
+
+    // Fichier projete en memoire ; position = fin des donnees ecrites (segment actif : modifiee sous writeLock)
+    private static final class Segment {
+        final long seq;
+        final Path path;
+        final MappedByteBuffer buffer;
+        volatile int position;
+
+        Segment(long seq, Path path, MappedByteBuffer buffer) {
+            this.seq = seq;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    // Enregistrement complet (en-tete compris) a la position offset du segment
+    private record Location(Segment segment, int offset, int length) {}
+
+    // Ids tries, valables pour modifications == modification
+    private record Listing(long modification, String[] ids) {}
+
+    // Enregistrement recopie par une compaction, a la position offset du fichier compacte
+    private record Moved(String id, Location from, int offset) {}
+
+    public LogStorageEngine(AppConfig config) {
+        this.dir = Path.of(config.getString("storage.log.dir", "data/posters").trim());
+        this.segmentSize = Math.max(64 * 1024, config.getInt("storage.log.segment.size", 64 * 1024 * 1024));
+        String policy = config.getString("storage.log.fsync", "interval").trim().toUpperCase(Locale.ROOT);
+        try {
+            this.fsync = Fsync.valueOf(policy);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("storage.log.fsync inconnu : " + policy + " (always, interval, never)");
+        }
+        this.compactionRatio = config.getDouble("storage.log.compaction.ratio", 0.5);
+        this.scheduler = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "log-storage-engine");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de relire le journal " + dir, e);
+        }
+        log.info(index.size() + " posters relus depuis " + dir + " (" + recovered + " enregistrements)");
+
+        if (fsync == Fsync.INTERVAL) {
+            long interval = config.getDuration("storage.log.fsync.interval", Duration.ofSeconds(1)).toMillis();
+            scheduler.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        long compaction = config.getDuration("storage.log.compaction.interval", Duration.ofMinutes(1)).toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactIfNeeded, compaction, compaction, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            // Laisse finir une compaction en cours, dont les fichiers seraient sinon a moitie ecrits
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            active.buffer.force();
+        } finally {
+            writeLock.unlock();
+        }
+        index.clear();
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Liberation du verrou de " + dir + " impossible", e);
+        }
+    }
+
+    // Lectures
+
+    @Override
+    public void forEach(Set<String> fields, RawPosterConsumer consumer, CausalToken after) throws IOException {
+        for (String id : sorted()) {
+            Location location = index.get(id);
+            if (location != null) {
+                consumer.accept(read(location));
+            }
+        }
+    }
+
+    @Override
+    public List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields, CausalToken after) {
+        String[] ids = sorted();
+        int from = 0;
+        if (afterId != null) {
+            int i = Arrays.binarySearch(ids, afterId);
+            from = i >= 0 ? i + 1 : -i - 1;
+        }
+        List<RawBsonDocument> page = new ArrayList<>(Math.min(limit, Math.max(0, ids.length - from)));
+        // Les ids supprimes depuis la copie sont sautes
+        for (int i = from; i < ids.length && page.size() < limit; i++) {
+            Location location = index.get(ids[i]);
+            if (location != null) {
+                page.add(read(location));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public Poster findById(String id, Set<String> fields, CausalToken after) {
+        Location location = index.get(id);
+        return location != null ? toPoster(read(location)) : null;
+    }
+
+    @Override
+    public List<Poster> findByIds(Collection<String> ids, Set<String> fields, CausalToken after) {
+        List<Poster> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Location location = index.get(id);
+            if (location != null) {
+                found.add(toPoster(read(location)));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Set<String> existingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (String id : ids) {
+            if (index.containsKey(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public long estimatedCount() {
+        return index.size();
+    }
+
+    // Ecritures
+
+    @Override
+    public boolean insert(Poster poster) {
+        writeLock.lock();
+        try {
+            if (!put(poster.getId(), poster.getUrl(), poster.getTitre(), poster.getVersion())) {
+                return false;
+            }
+            durable();
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Poster update(String id, String url, String titre, Collection<Long> expectedVersions) {
+        writeLock.lock();
+        try {
+            Poster updated = replace(id, url, titre, expectedVersions);
+            if (updated != null) {
+                durable();
+            }
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String id, Collection<Long> expectedVersions) {
+        writeLock.lock();
+        try {
+            if (!remove(id, expectedVersions)) {
+                return false;
+            }
+            durable();
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int insertMany(List<Poster> posters) {
+        writeLock.lock();
+        try {
+            int inserted = 0;
+            for (Poster poster : posters) {
+                if (put(poster.getId(), poster.getUrl(), poster.getTitre(), poster.getVersion())) {
+                    inserted++;
+                }
+            }
+            durable();
+            return inserted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<Integer, Failure> bulkWrite(List<BulkOperation> operations) {
+        Map<Integer, Failure> failures = new HashMap<>();
+        writeLock.lock();
+        try {
+            for (int i = 0; i < operations.size(); i++) {
+                BulkOperation op = operations.get(i);
+                switch (op.op()) {
+                    case "create" -> {
+                        if (!put(op.id(), op.url(), op.titre(), StorageEngine.newVersion())) {
+                            failures.put(i, new Failure(409, "Un poster avec l'id '" + op.id() + "' existe deja."));
+                        }
+                    }
+                    // Comme bulkWrite sur MongoDB : un poster supprime entre-temps n'est pas une erreur
+                    case "delete" -> remove(op.id(), null);
+                    default -> replace(op.id(), blankToNull(op.url()), blankToNull(op.titre()), null);
+                }
+            }
+            durable();
+        } finally {
+            writeLock.unlock();
+        }
+        return failures;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> journal = new LinkedHashMap<>();
+        journal.put("posters", index.size());
+        journal.put("segments", segments().size());
+        journal.put("totalBytes", totalBytes.get());
+        journal.put("liveBytes", liveBytes.get());
+        journal.put("fsync", fsync.name().toLowerCase(Locale.ROOT));
+        journal.put("fsyncs", fsyncs.sum());
+        journal.put("compactions", compactions.sum());
+        journal.put("listingRebuilds", listingRebuilds.sum());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("log", journal);
+        return stats;
+    }
+
+    // Sous writeLock : false si l'id existe deja
+    private boolean put(String id, String url, String titre, long version) {
+        if (index.containsKey(id)) {
+            return false;
+        }
+        index.put(id, append(PUT, encode(id, url, titre, version)));
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    // Sous writeLock : null si aucun poster ne correspond
+    private Poster replace(String id, String url, String titre, Collection<Long> expectedVersions) {
+        Location current = index.get(id);
+        if (current == null) {
+            return null;
+        }
+        Poster poster = toPoster(read(current));
+        if (expectedVersions != null && !expectedVersions.contains(poster.getVersion())) {
+            return null;
+        }
+        if (url != null) {
+            poster.setUrl(url);
+        }
+        if (titre != null) {
+            poster.setTitre(titre);
+        }
+        poster.setVersion(poster.getVersion() + 1);
+        index.put(id, append(PUT, encode(id, poster.getUrl(), poster.getTitre(), poster.getVersion())));
+        liveBytes.addAndGet(-current.length());
+        return poster;
+    }
+
+    // Sous writeLock : false si aucun poster ne correspond
+    private boolean remove(String id, Collection<Long> expectedVersions) {
+        Location current = index.get(id);
+        if (current == null) {
+            return false;
+        }
+        if (expectedVersions != null && !expectedVersions.contains(toPoster(read(current)).getVersion())) {
+            return false;
+        }
+        append(DELETE, encode(new BsonDocument("_id", new BsonString(id))));
+        index.remove(id);
+        liveBytes.addAndGet(-current.length());
+        // La suppression elle-meme n'est pas vivante : elle disparait a la compaction
+        modifications.incrementAndGet();
+        return true;
+    }
+
+    // Sous writeLock : ajoute l'enregistrement au segment actif (bascule sur un nouveau segment s'il est plein)
+    private Location append(byte type, byte[] document) {
+        int length = HEADER + document.length;
+        if (length > segmentSize) {
+            throw new IllegalArgumentException("Poster trop grand pour un segment : " + length + " octets");
+        }
+        try {
+            if (active.position + length > active.buffer.capacity()) {
+                roll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ecriture impossible dans le journal " + dir, e);
+        }
+        Segment segment = active;
+        int offset = segment.position;
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(document);
+        segment.buffer.putInt(offset + 4, (int) crc.getValue());
+        segment.buffer.put(offset + 8, type);
+        segment.buffer.put(offset + HEADER, document);
+        segment.buffer.putInt(offset, document.length);
+        segment.position = offset + length;
+        dirty = true;
+        totalBytes.addAndGet(length);
+        if (type == PUT) {
+            liveBytes.addAndGet(length);
+        }
+        return new Location(segment, offset, length);
+    }
+
+    // Sous writeLock : scelle le segment actif (force sur disque sauf fsync=never) et en ouvre un nouveau
+    private void roll() throws IOException {
+        Segment previous = active;
+        if (fsync != Fsync.NEVER) {
+            previous.buffer.force();
+            fsyncs.increment();
+        }
+        active = openSegment(previous.seq + 1);
+        sealed.add(previous);
+        syncDirectory();
+    }
+
+    // Sous writeLock, en fin d'ecriture
+    private void durable() {
+        if (fsync == Fsync.ALWAYS) {
+            active.buffer.force();
+            fsyncs.increment();
+        }
+    }
+
+    // fsync=interval
+    private void sync() {
+        if (!dirty) {
+            return;
+        }
+        // Remis a false avant de forcer : une ecriture concurrente sera forcee au tour suivant
+        dirty = false;
+        active.buffer.force();
+        fsyncs.increment();
+    }
+
+    /*
+     * Copie triee courante des ids, reconstruite si une creation ou une suppression a eu lieu depuis.
+     * Les ecritures modifient l'index avant d'incrementer modifications : une copie faite apres lecture du
+     * compteur contient au moins toutes les ecritures qu'il compte.
+     */
+    private String[] sorted() {
+        long modification = modifications.get();
+        Listing current = listing.get();
+        if (current.modification() == modification) {
+            return current.ids();
+        }
+        String[] ids = index.keySet().toArray(new String[0]);
+        Arrays.sort(ids);
+        listingRebuilds.increment();
+        listing.accumulateAndGet(new Listing(modification, ids), (a, b) -> a.modification() >= b.modification() ? a : b);
+        return ids;
+    }
+
+    // Compaction
+
+    /*
+     * Compacte les fichiers scelles (fichier compacte compris) quand leur part d'octets morts depasse le
+     * ratio : versions remplacees et suppressions y laissent des octets morts meme apres leur scellement.
+     * Le segment actif n'est jamais recopie ; ses octets morts le seront une fois scelle. Il faut au moins
+     * un segment scelle depuis la derniere compaction : le fichier compacte seul n'est pas recompacte.
+     */
+    private void compactIfNeeded() {
+        try {
+            List<Segment> inputs;
+            writeLock.lock();
+            try {
+                inputs = List.copyOf(sealed);
+            } finally {
+                writeLock.unlock();
+            }
+            if (inputs.isEmpty() || isCompacted(inputs.get(inputs.size() - 1))) {
+                return;
+            }
+            Set<Segment> from = Collections.newSetFromMap(new IdentityHashMap<>());
+            from.addAll(inputs);
+            long total = 0;
+            for (Segment input : inputs) {
+                total += input.position;
+            }
+            long live = 0;
+            for (Location location : index.values()) {
+                if (from.contains(location.segment())) {
+                    live += location.length();
+                }
+            }
+            if (total > 0 && 1 - (double) live / total >= compactionRatio) {
+                compact(inputs);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Compaction du journal " + dir + " impossible", e);
+        }
+    }
+
+    /*
+     * Recopie les enregistrements vivants des segments scelles dans un fichier compacte. Les ecritures
+     * continuent pendant la copie (dans le segment actif, plus recent) : la bascule de l'index ne remplace
+     * que les positions qui n'ont pas change depuis, et une copie devenue perimee est masquee a la relecture
+     * par le segment plus recent qui la remplace.
+     */
+    private void compact(List<Segment> inputs) throws IOException {
+        // Numero du dernier segment recopie : toujours plus grand que celui du fichier compacte en entree,
+        // le fichier cible ne peut donc pas etre une des entrees
+        Segment last = inputs.get(inputs.size() - 1);
+        if (isCompacted(last)) {
+            return;
+        }
+        long seq = last.seq;
+        Set<Segment> from = Collections.newSetFromMap(new IdentityHashMap<>());
+        from.addAll(inputs);
+
+        Path target = dir.resolve(String.format("compacted-%012d.log", seq));
+        Path tmp = dir.resolve(target.getFileName() + ".tmp");
+        List<Moved> moved = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024)) {
+            long offset = 0;
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (!from.contains(location.segment())) {
+                    continue;
+                }
+                if (offset + location.length() > Integer.MAX_VALUE) {
+                    throw new IOException("Fichier compacte au-dela de 2 Go : compaction abandonnee");
+                }
+                byte[] record = new byte[location.length()];
+                location.segment().buffer.get(location.offset(), record);
+                out.write(record);
+                moved.add(new Moved(entry.getKey(), location, (int) offset));
+                offset += record.length;
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        Segment compacted = openCompacted(seq, target);
+
+        writeLock.lock();
+        try {
+            long dropped = 0;
+            for (Segment input : inputs) {
+                dropped += input.position;
+            }
+            for (Moved m : moved) {
+                index.replace(m.id(), m.from(), new Location(compacted, m.offset(), m.from().length()));
+            }
+            sealed.removeAll(inputs);
+            sealed.add(0, compacted);
+            totalBytes.addAndGet(compacted.position - dropped);
+        } finally {
+            writeLock.unlock();
+        }
+        // Les lectures en cours sur ces segments restent valides : la projection survit a la suppression
+        for (Segment input : inputs) {
+            if (input.path.equals(target)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(input.path);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Suppression impossible de " + input.path + " (reprise au prochain demarrage)", e);
+            }
+        }
+        compactions.increment();
+        log.info("Journal compacte : " + inputs.size() + " fichiers -> " + target.getFileName()
+                + " (" + moved.size() + " posters, " + compacted.position + " octets)");
+    }
+
+    // Relecture au demarrage
+
+    private void recover() throws IOException {
+        Files.createDirectories(dir);
+        lockChannel = FileChannel.open(dir.resolve("LOCK"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (lockChannel.tryLock() == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Journal " + dir + " deja ouvert par un autre processus");
+        }
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        TreeMap<Long, Path> compacted = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                String name = path.getFileName().toString();
+                Matcher segment = SEGMENT.matcher(name);
+                Matcher compact = COMPACTED.matcher(name);
+                if (segment.matches()) {
+                    segments.put(Long.parseLong(segment.group(1)), path);
+                } else if (compact.matches()) {
+                    compacted.put(Long.parseLong(compact.group(1)), path);
+                } else if (name.endsWith(".tmp")) {
+                    // Compaction interrompue : les segments d'origine sont intacts
+                    Files.delete(path);
+                }
+            }
+        }
+
+        long lastSeq = 0;
+        if (!compacted.isEmpty()) {
+            // Seul le plus recent fichier compacte compte : il contient tout ce qui precede lastSeq
+            lastSeq = compacted.lastKey();
+            for (Path older : compacted.headMap(lastSeq).values()) {
+                Files.delete(older);
+            }
+            Segment segment = openCompacted(lastSeq, compacted.get(lastSeq));
+            replay(segment);
+            sealed.add(segment);
+        }
+        // Segments deja recopies (suppression interrompue apres une compaction)
+        for (Path copied : segments.headMap(lastSeq, true).values()) {
+            Files.delete(copied);
+        }
+        for (Map.Entry<Long, Path> entry : segments.tailMap(lastSeq, false).entrySet()) {
+            Segment segment = mapSegment(entry.getKey(), entry.getValue());
+            int end = replay(segment);
+            if (end + HEADER <= segment.buffer.capacity() && segment.buffer.getInt(end) != 0) {
+                log.warning(entry.getValue().getFileName() + " : enregistrement incomplet ou corrompu a la position "
+                        + end + ", la suite du segment est ignoree");
+                // Efface la suite : une ecriture reprise ici ne doit pas realigner d'anciens enregistrements
+                zero(segment, end);
+            }
+            segment.position = end;
+            if (active != null) {
+                sealed.add(active);
+            }
+            active = segment;
+        }
+        if (active == null) {
+            active = openSegment(lastSeq + 1);
+            syncDirectory();
+        }
+    }
+
+    // Relit les enregistrements valides du segment dans l'index ; retourne la position de fin
+    private int replay(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER <= buffer.capacity()) {
+            int size = buffer.getInt(offset);
+            if (size <= 0 || size > buffer.capacity() - offset - HEADER) {
+                break;
+            }
+            byte type = buffer.get(offset + 8);
+            byte[] document = new byte[size];
+            buffer.get(offset + HEADER, document);
+            CRC32C crc = new CRC32C();
+            crc.update(type);
+            crc.update(document);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4) || (type != PUT && type != DELETE)) {
+                break;
+            }
+            String id = new RawBsonDocument(document).getString("_id").getValue();
+            Location location = new Location(segment, offset, HEADER + size);
+            Location previous = type == PUT ? index.put(id, location) : index.remove(id);
+            if (type == PUT) {
+                liveBytes.addAndGet(location.length());
+            }
+            if (previous != null) {
+                liveBytes.addAndGet(-previous.length());
+            }
+            totalBytes.addAndGet(location.length());
+            recovered++;
+            offset += location.length();
+        }
+        segment.position = offset;
+        return offset;
+    }
+
+    // Fichiers
+
+    private Segment openSegment(long seq) throws IOException {
+        return mapSegment(seq, dir.resolve(String.format("segment-%012d.log", seq)));
+    }
+
+    private Segment mapSegment(long seq, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Un segment plus grand (storage.log.segment.size reduit depuis) est projete en entier
+            long size = Math.max(segmentSize, channel.size());
+            return new Segment(seq, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    private static boolean isCompacted(Segment segment) {
+        return COMPACTED.matcher(segment.path.getFileName().toString()).matches();
+    }
+
+    private static Segment openCompacted(long seq, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Segment segment = new Segment(seq, path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            segment.position = (int) channel.size();
+            return segment;
+        }
+    }
+
+    private List<Segment> segments() {
+        writeLock.lock();
+        try {
+            List<Segment> all = new ArrayList<>(sealed);
+            all.add(active);
+            return all;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Rend durables les creations et renommages de fichiers (sans effet sur les systemes qui ne le permettent pas)
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.log(Level.FINE, "fsync du repertoire " + dir + " indisponible", e);
+        }
+    }
+
+    private static void zero(Segment segment, int from) {
+        byte[] zeros = new byte[64 * 1024];
+        int capacity = segment.buffer.capacity();
+        for (int i = from; i < capacity; i += zeros.length) {
+            segment.buffer.put(i, zeros, 0, Math.min(zeros.length, capacity - i));
+        }
+        segment.buffer.force();
+    }
+
+    // Documents
+
+    private static RawBsonDocument read(Location location) {
+        byte[] document = new byte[location.length() - HEADER];
+        location.segment().buffer.get(location.offset() + HEADER, document);
+        return new RawBsonDocument(document);
+    }
+
+    private static Poster toPoster(RawBsonDocument doc) {
+        Poster poster = new Poster(doc.getString("_id").getValue(), string(doc.get("url")), string(doc.get("titre")));
+        poster.setVersion(doc.getInt64("version").getValue());
+        return poster;
+    }
+
+    private static String string(BsonValue value) {
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private static byte[] encode(String id, String url, String titre, long version) {
+        BsonDocument doc = new BsonDocument("_id", new BsonString(id));
+        if (url != null) {
+            doc.append("url", new BsonString(url));
+        }
+        if (titre != null) {
+            doc.append("titre", new BsonString(titre));
+        }
+        doc.append("version", new BsonInt64(version));
+        return encode(doc);
+    }
+
+    private static byte[] encode(BsonDocument doc) {
+        BasicOutputBuffer out = new BasicOutputBuffer(128);
+        CODEC.encode(new BsonBinaryWriter(out), doc, EncoderContext.builder().build());
+        return out.toByteArray();
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value : null;
+    }
+}
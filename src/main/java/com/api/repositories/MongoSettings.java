@@ -0,0 +1,141 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.ConnectionPoolListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reglages des clients MongoDB (synchrone et Reactive Streams), lus dans AppConfig (cles mongo.*).
+ *
+ * mongo.uri, si fournie, remplace mongo.host/mongo.port ; les cles mongo.* (ou leurs valeurs par defaut)
+ * remplacent les options de pool, delais et compression de l'URI.
+ *
+ * Chaque client a son pool : pour dimensionner mongo.pool.maxsize, compter les threads de Tomcat qui
+ * lisent en meme temps (maxThreads du connecteur), pas le nombre de connexions HTTP.
+ */
+final class MongoSettings {
+
+    private MongoSettings() {}
+
+    /**
+     * @param commandListener null pour un client qui n'ecrit pas
+     */
+    static MongoClientSettings build(AppConfig config, ConnectionPoolListener poolListener, CommandListener commandListener) {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                .applyConnectionString(connectionString(config))
+                .applicationName(config.getString("mongo.app.name", "api-poster"))
+                // Ecritures et lectures des ecritures (conflits, existence) sur le primaire ; les GET
+                // prennent readPreference(config) collection par collection
+                .readPreference(ReadPreference.primary());
+        if (commandListener != null) {
+            builder.addCommandListener(commandListener);
+        }
+
+        builder.applyToConnectionPoolSettings(pool -> {
+            pool.maxSize(config.getInt("mongo.pool.maxsize", 100))
+                    .minSize(config.getInt("mongo.pool.minsize", 0))
+                    .maxConnecting(config.getInt("mongo.pool.maxconnecting", 2))
+                    .maxWaitTime(millis(config, "mongo.pool.maxwait", Duration.ofMinutes(2)), TimeUnit.MILLISECONDS)
+                    .maxConnectionIdleTime(millis(config, "mongo.pool.maxidle", Duration.ZERO), TimeUnit.MILLISECONDS)
+                    .maxConnectionLifeTime(millis(config, "mongo.pool.maxlifetime", Duration.ZERO), TimeUnit.MILLISECONDS);
+            if (poolListener != null) {
+                pool.addConnectionPoolListener(poolListener);
+            }
+        });
+        builder.applyToSocketSettings(socket -> socket
+                .connectTimeout(millis(config, "mongo.connect.timeout", Duration.ofSeconds(10)), TimeUnit.MILLISECONDS)
+                // 0 = pas de delai de lecture sur la socket (valeur du driver)
+                .readTimeout(millis(config, "mongo.socket.timeout", Duration.ZERO), TimeUnit.MILLISECONDS));
+        builder.applyToClusterSettings(cluster -> cluster
+                .serverSelectionTimeout(millis(config, "mongo.server.selection.timeout", Duration.ofSeconds(30)),
+                        TimeUnit.MILLISECONDS));
+
+        List<MongoCompressor> compressors = compressors(config.getString("mongo.compressors", ""));
+        if (!compressors.isEmpty()) {
+            builder.compressorList(compressors);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Preference de lecture des GET : mongo.read.preference (a defaut celle de l'URI, sinon primary), avec
+     * jeux d'etiquettes mongo.read.tags ("dc:paris,rack:a;dc:lyon;" : jeux separes par ";", essayes dans
+     * l'ordre, un jeu vide final accepte tout membre) et retard maximal mongo.read.maxstaleness (90s minimum).
+     */
+    static ReadPreference readPreference(AppConfig config) {
+        String name = config.getString("mongo.read.preference", null);
+        ReadPreference fromUri = connectionString(config).getReadPreference();
+        if (name == null) {
+            name = fromUri != null ? fromUri.getName() : "primary";
+        }
+        List<TagSet> tags = tagSets(config.getString("mongo.read.tags", ""));
+        Duration maxStaleness = config.getDuration("mongo.read.maxstaleness", Duration.ZERO);
+        if (tags.isEmpty() && maxStaleness.isZero()) {
+            return ReadPreference.valueOf(name.trim());
+        }
+        if (name.trim().equals("primary")) {
+            throw new IllegalStateException("mongo.read.tags et mongo.read.maxstaleness exigent une preference autre que primary");
+        }
+        return maxStaleness.isZero()
+                ? ReadPreference.valueOf(name.trim(), tags)
+                : ReadPreference.valueOf(name.trim(), tags, maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static ConnectionString connectionString(AppConfig config) {
+        return new ConnectionString(config.getString("mongo.uri",
+                "mongodb://" + config.getString("mongo.host", "mongodb") + ":" + config.getString("mongo.port", "27017")));
+    }
+
+    private static List<TagSet> tagSets(String raw) {
+        List<TagSet> sets = new ArrayList<>();
+        if (raw.isBlank()) {
+            return sets;
+        }
+        for (String set : raw.split(";", -1)) {
+            List<Tag> tags = new ArrayList<>();
+            for (String pair : set.split(",")) {
+                if (pair.isBlank()) {
+                    continue;
+                }
+                int colon = pair.indexOf(':');
+                if (colon <= 0) {
+                    throw new IllegalStateException("Etiquette invalide pour mongo.read.tags (nom:valeur) : " + pair.trim());
+                }
+                tags.add(new Tag(pair.substring(0, colon).trim(), pair.substring(colon + 1).trim()));
+            }
+            sets.add(new TagSet(tags));
+        }
+        return sets;
+    }
+
+    // Ordre de preference : le premier compresseur aussi connu du serveur est retenu a la connexion
+    private static List<MongoCompressor> compressors(String raw) {
+        List<MongoCompressor> compressors = new ArrayList<>();
+        for (String name : raw.split(",")) {
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "" -> { }
+                case "zstd" -> compressors.add(MongoCompressor.createZstdCompressor());
+                case "snappy" -> compressors.add(MongoCompressor.createSnappyCompressor());
+                case "zlib" -> compressors.add(MongoCompressor.createZlibCompressor());
+                default -> throw new IllegalStateException("Compresseur inconnu pour mongo.compressors : " + name.trim());
+            }
+        }
+        return compressors;
+    }
+
+    private static long millis(AppConfig config, String key, Duration defaultValue) {
+        return config.getDuration(key, defaultValue).toMillis();
+    }
+}
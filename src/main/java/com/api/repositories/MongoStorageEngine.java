@@ -0,0 +1,421 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.api.dto.BulkOperation;
+import com.api.entities.Poster;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Posters stockes dans MongoDB (storage.engine=mongo) : collection mongo.collection de mongo.db, clients
+ * configures par MongoSettings, documents de la forme mongo.schema (voir PosterSchema). Les GET sont lus
+ * selon mongo.read.preference, les ecritures sur le primaire.
+ */
+public final class MongoStorageEngine implements AsyncStorageEngine {
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder().causallyConsistent(true).build();
+
+    private final MongoClient mongoClient;
+    private final MongoCollection<Document> collection;
+    // Memes collections lues selon mongo.read.preference : GET uniquement, les ecritures restent sur le primaire
+    private final MongoCollection<Document> readCollection;
+    // Lue en BSON brut : chemin de lecture des listes, transcode sans objets intermediaires
+    private final MongoCollection<RawBsonDocument> rawReadCollection;
+    // Client non bloquant (Reactive Streams), ouvert seulement si async.enabled
+    private final com.mongodb.reactivestreams.client.MongoClient asyncClient;
+    private final com.mongodb.reactivestreams.client.MongoCollection<Document> asyncCollection;
+    private final com.mongodb.reactivestreams.client.MongoCollection<RawBsonDocument> asyncRawCollection;
+    // Pools de connexions des deux clients (voir MongoSettings), exposes par stats()
+    private final ConnectionPoolMetrics pool = new ConnectionPoolMetrics();
+    private final ConnectionPoolMetrics asyncPool = new ConnectionPoolMetrics();
+    // Derniere ecriture de cette instance : les lectures hors primaire sont causales a partir de cet instant
+    private final WriteClock writeClock = new WriteClock();
+    // Lectures causales : seulement si les GET peuvent etre servis par un secondaire (voir readSession)
+    private final boolean causalReads;
+    // Duree maximale d'une lecture causale cote serveur : un secondaire en retard ne la fait pas attendre au-dela
+    private final long causalMaxTimeMillis;
+    private final int cursorBatchSize;
+    private final PosterSchema schema;
+    private final IndexRegistry indexes;
+
+    public MongoStorageEngine(AppConfig config) {
+        String db = config.getString("mongo.db", "posters_db");
+        String name = config.getString("mongo.collection", "posters");
+        this.schema = PosterSchema.of(config);
+
+        ReadPreference readPreference = MongoSettings.readPreference(config);
+        this.causalReads = !readPreference.equals(ReadPreference.primary()) && config.getBoolean("mongo.read.causal", true);
+        this.causalMaxTimeMillis = config.getDuration("mongo.read.causal.maxtime", Duration.ofSeconds(5)).toMillis();
+
+        this.mongoClient = MongoClients.create(MongoSettings.build(config, pool, writeClock));
+        MongoDatabase database = mongoClient.getDatabase(db);
+        this.collection = database.getCollection(name);
+        this.readCollection = collection.withReadPreference(readPreference);
+        this.rawReadCollection = readCollection.withDocumentClass(RawBsonDocument.class);
+        if (config.getBoolean("async.enabled", false)) {
+            this.asyncClient = com.mongodb.reactivestreams.client.MongoClients.create(MongoSettings.build(config, asyncPool, null));
+            this.asyncCollection = asyncClient.getDatabase(db).getCollection(name).withReadPreference(readPreference);
+            this.asyncRawCollection = asyncCollection.withDocumentClass(RawBsonDocument.class);
+        } else {
+            this.asyncClient = null;
+            this.asyncCollection = null;
+            this.asyncRawCollection = null;
+        }
+        this.cursorBatchSize = Math.max(1, config.getInt("mongo.cursor.batchsize", 500));
+        this.indexes = new IndexRegistry(collection, schema);
+        if (config.getBoolean("mongo.indexes.reconcile", true)) {
+            indexes.reconcileAsync();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "mongo";
+    }
+
+    @Override
+    public void close() {
+        indexes.close();
+        if (asyncClient != null) {
+            asyncClient.close();
+        }
+        mongoClient.close();
+    }
+
+    /**
+     * Parcours lot par lot (mongo.cursor.batchsize) dans l'ordre de l'index _id, comme les autres moteurs :
+     * chaque poster est transmis des sa lecture, sans tri en memoire.
+     */
+    @Override
+    public void forEach(Set<String> fields, RawPosterConsumer consumer, CausalToken after) throws IOException {
+        try (ClientSession session = readSession(after)) {
+            FindIterable<RawBsonDocument> find = findRaw(session, new Document())
+                    .batchSize(cursorBatchSize).projection(schema.projection(fields)).sort(Sorts.ascending("_id"));
+            if (isIdOnly(fields)) {
+                // Parcours de l'index _id seul : requete couverte, aucun document n'est lu
+                find = find.hint(Indexes.ascending("_id"));
+            }
+            try (MongoCursor<RawBsonDocument> cursor = find.cursor()) {
+                while (cursor.hasNext()) {
+                    consumer.accept(cursor.next());
+                }
+            }
+        }
+    }
+
+    /** Parcours par plage sur l'index _id : le cout ne depend pas de la position de la page. */
+    @Override
+    public List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields, CausalToken after) {
+        Bson filter = afterId != null ? schema.after(afterId) : new Document();
+        try (ClientSession session = readSession(after)) {
+            return findRaw(session, filter).projection(schema.projection(fields))
+                    .sort(Sorts.ascending("_id")).limit(limit)
+                    .into(new ArrayList<>(limit));
+        }
+    }
+
+    @Override
+    public Poster findById(String id, Set<String> fields, CausalToken after) {
+        try (ClientSession session = readSession(after)) {
+            FindIterable<Document> find = find(session, Filters.eq("_id", schema.id(id)));
+            if (fields != null) {
+                find = find.projection(schema.projectionWithVersion(fields));
+            }
+            Document doc = find.first();
+            return doc != null ? schema.toPoster(doc) : null;
+        }
+    }
+
+    /** Une seule requete $in. */
+    @Override
+    public List<Poster> findByIds(Collection<String> ids, Set<String> fields, CausalToken after) {
+        List<Poster> found = new ArrayList<>(ids.size());
+        try (ClientSession session = readSession(after)) {
+            for (Document doc : find(session, Filters.in("_id", ids(ids))).projection(schema.projection(fields))) {
+                found.add(schema.toPoster(doc));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Set<String> existingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        for (Document doc : collection.find(Filters.in("_id", ids(ids))).projection(Projections.include("_id"))) {
+            existing.add(schema.id(doc.get("_id")));
+        }
+        return existing;
+    }
+
+    @Override
+    public long estimatedCount() {
+        return collection.estimatedDocumentCount();
+    }
+
+    /** Insertion directe : l'unicite de _id est garantie par MongoDB, sans verification prealable. */
+    @Override
+    public boolean insert(Poster poster) {
+        try {
+            collection.insertOne(schema.toDocument(poster));
+            return true;
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /** Un seul findOneAndUpdate : la version attendue fait partie du filtre de la meme operation. */
+    @Override
+    public Poster update(String id, String url, String titre, Collection<Long> expectedVersions) {
+        Document doc = collection.findOneAndUpdate(
+                idFilter(id, expectedVersions),
+                schema.update(url, titre),
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+        return doc != null ? schema.toPoster(doc) : null;
+    }
+
+    @Override
+    public boolean delete(String id, Collection<Long> expectedVersions) {
+        return collection.deleteOne(idFilter(id, expectedVersions)).getDeletedCount() > 0;
+    }
+
+    /** Un insertMany non ordonne : les doublons sont ignores, toute autre erreur est propagee. */
+    @Override
+    public int insertMany(List<Poster> posters) {
+        List<Document> docs = new ArrayList<>(posters.size());
+        for (Poster poster : posters) {
+            docs.add(schema.toDocument(poster));
+        }
+        try {
+            return collection.insertMany(docs, new InsertManyOptions().ordered(false)).getInsertedIds().size();
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            return e.getWriteResult().getInsertedCount();
+        }
+    }
+
+    /** Un bulkWrite non ordonne. */
+    @Override
+    public Map<Integer, Failure> bulkWrite(List<BulkOperation> operations) {
+        List<WriteModel<Document>> models = new ArrayList<>(operations.size());
+        for (BulkOperation op : operations) {
+            models.add(toWriteModel(op));
+        }
+        Map<Integer, Failure> failures = new HashMap<>();
+        try {
+            collection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                BulkOperation op = operations.get(error.getIndex());
+                failures.put(error.getIndex(), error.getCategory() == ErrorCategory.DUPLICATE_KEY
+                        ? new Failure(409, "Un poster avec l'id '" + op.id() + "' existe deja.")
+                        : new Failure(500, error.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    /*
+     * Lectures non bloquantes (async.enabled) : aucun thread n'attend MongoDB, les futurs se terminent
+     * sur les threads du driver.
+     */
+
+    @Override
+    public boolean asyncEnabled() {
+        return asyncClient != null;
+    }
+
+    @Override
+    public CompletableFuture<Poster> findByIdAsync(String id, Set<String> fields) {
+        return readAsync(session -> {
+            Bson filter = Filters.eq("_id", schema.id(id));
+            FindPublisher<Document> find = session != null
+                    ? asyncCollection.find(session, filter).maxTime(causalMaxTimeMillis, TimeUnit.MILLISECONDS)
+                    : asyncCollection.find(filter);
+            if (fields != null) {
+                find = find.projection(schema.projectionWithVersion(fields));
+            }
+            return Publishers.first(find.first());
+        }).thenApply(doc -> doc != null ? schema.toPoster(doc) : null);
+    }
+
+    @Override
+    public CompletableFuture<List<RawBsonDocument>> findPageAsync(String afterId, int limit, Set<String> fields) {
+        Bson filter = afterId != null ? schema.after(afterId) : new Document();
+        return readAsync(session -> {
+            FindPublisher<RawBsonDocument> find = session != null
+                    ? asyncRawCollection.find(session, filter).maxTime(causalMaxTimeMillis, TimeUnit.MILLISECONDS)
+                    : asyncRawCollection.find(filter);
+            return Publishers.toList(find.projection(schema.projection(fields)).sort(Sorts.ascending("_id")).limit(limit), limit);
+        });
+    }
+
+    /**
+     * Toute la collection triee par _id, lot par lot (mongo.cursor.batchsize) : le consommateur regle le
+     * debit par ses demandes (request), rien n'est lu d'avance au-dela.
+     */
+    @Override
+    public Publisher<RawBsonDocument> findAllAsync(Set<String> fields) {
+        // Pas de session a fermer en fin de flux : apres une ecriture, lecture sur le primaire (voir readSession)
+        com.mongodb.reactivestreams.client.MongoCollection<RawBsonDocument> source =
+                causalReads && writeClock.last() != null
+                        ? asyncRawCollection.withReadPreference(ReadPreference.primary())
+                        : asyncRawCollection;
+        FindPublisher<RawBsonDocument> find = source.find().batchSize(cursorBatchSize)
+                .projection(schema.projection(fields)).sort(Sorts.ascending("_id"));
+        if (isIdOnly(fields)) {
+            find = find.hint(Indexes.ascending("_id"));
+        }
+        return find;
+    }
+
+    @Override
+    public boolean causalReads() {
+        return causalReads;
+    }
+
+    @Override
+    public CausalToken causalToken() {
+        return causalReads ? writeClock.last() : null;
+    }
+
+    /** Index declares par IndexRegistry, rapprochement et acces ($indexStats). */
+    @Override
+    public Map<String, Object> indexes() {
+        return indexes.stats();
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("schema", schema.name());
+        stats.put("readPreference", readCollection.getReadPreference().toString());
+        stats.put("pool", pool.stats());
+        if (asyncClient != null) {
+            stats.put("asyncPool", asyncPool.stats());
+        }
+        return stats;
+    }
+
+    /*
+     * Lectures hors primaire (mongo.read.preference) : un secondaire peut etre en retard. Chaque lecture se
+     * fait alors dans une session causale avancee a la derniere ecriture de cette instance, pour que les
+     * caches ne soient pas remplis avec un etat anterieur a leur invalidation, et au jeton du client s'il
+     * en fournit un. Sans ecriture ni jeton, ou sur le primaire, pas de session : lecture simple.
+     */
+    private ClientSession readSession(CausalToken after) {
+        CausalToken token = causalReads ? CausalToken.latest(writeClock.last(), after) : null;
+        if (token == null) {
+            return null;
+        }
+        ClientSession session = mongoClient.startSession(CAUSAL);
+        token.applyTo(session);
+        return session;
+    }
+
+    // Lecture causale (session non nulle) bornee par mongo.read.causal.maxtime
+    private FindIterable<Document> find(ClientSession session, Bson filter) {
+        return session != null
+                ? readCollection.find(session, filter).maxTime(causalMaxTimeMillis, TimeUnit.MILLISECONDS)
+                : readCollection.find(filter);
+    }
+
+    private FindIterable<RawBsonDocument> findRaw(ClientSession session, Bson filter) {
+        return session != null
+                ? rawReadCollection.find(session, filter).maxTime(causalMaxTimeMillis, TimeUnit.MILLISECONDS)
+                : rawReadCollection.find(filter);
+    }
+
+    // Equivalent non bloquant de readSession : la session est ouverte puis fermee autour de la lecture
+    private <T> CompletableFuture<T> readAsync(
+            Function<com.mongodb.reactivestreams.client.ClientSession, CompletableFuture<T>> query) {
+        CausalToken token = causalReads ? writeClock.last() : null;
+        if (token == null) {
+            return query.apply(null);
+        }
+        return Publishers.first(asyncClient.startSession(CAUSAL)).thenCompose(session -> {
+            token.applyTo(session);
+            return query.apply(session).whenComplete((value, error) -> session.close());
+        });
+    }
+
+    private static boolean isIdOnly(Set<String> fields) {
+        return fields != null && !fields.contains("url") && !fields.contains("titre");
+    }
+
+    private List<Object> ids(Collection<String> ids) {
+        List<Object> values = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            values.add(schema.id(id));
+        }
+        return values;
+    }
+
+    private Bson idFilter(String id, Collection<Long> expectedVersions) {
+        Bson filter = Filters.eq("_id", schema.id(id));
+        return expectedVersions != null ? Filters.and(filter, schema.versionIn(expectedVersions)) : filter;
+    }
+
+    private WriteModel<Document> toWriteModel(BulkOperation op) {
+        switch (op.op()) {
+            case "create":
+                Poster poster = new Poster(op.id(), op.url(), op.titre());
+                poster.setVersion(StorageEngine.newVersion());
+                return new InsertOneModel<>(schema.toDocument(poster));
+            case "delete":
+                return new DeleteOneModel<>(Filters.eq("_id", schema.id(op.id())));
+            default:
+                return new UpdateOneModel<>(Filters.eq("_id", schema.id(op.id())), schema.update(
+                        op.url() != null && !op.url().isBlank() ? op.url() : null,
+                        op.titre() != null && !op.titre().isBlank() ? op.titre() : null));
+        }
+    }
+}
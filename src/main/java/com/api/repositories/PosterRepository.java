@@ -1,85 +1,522 @@
 package com.api.repositories;
 
+import com.api.cache.NegativeLookupFilter;
+import com.api.cache.OffHeapPosterCache;
+import com.api.cache.SingleFlight;
+import com.api.config.AppConfig;
+import com.api.dto.BulkItemResult;
+import com.api.dto.BulkOperation;
 import com.api.entities.Poster;
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
-import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoDatabase;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Updates;
-import org.bson.Document;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.bson.RawBsonDocument;
+import org.reactivestreams.Publisher;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+/**
+ * Acces aux posters : caches, filtre des ids existants et generation de la collection, devant le moteur
+ * de stockage (storage.engine) qui fait les lectures et les ecritures.
+ */
 public class PosterRepository {
 
-    private final MongoClient mongoClient;
-    private final MongoCollection<Document> collection;
+    private final StorageEngine engine;
+    // Le meme moteur s'il lit aussi sans bloquer (AsyncStorageEngine, async.enabled), null sinon
+    private final AsyncStorageEngine asyncEngine;
+    private final int bulkChunkSize;
+    private final Cache<String, Poster> cache;
+    // Second niveau, hors du tas (cache.offheap.maxbytes) : consulte apres cache, avant le moteur
+    private final OffHeapPosterCache offHeap;
+    // Lectures par id en vol : les defauts de cache concurrents sur un meme id ne font qu'une requete
+    private final SingleFlight<Lookup, Poster> lookups = new SingleFlight<>();
+    // Ids existants (filtre de Bloom) : un id absent du filtre est introuvable sans requete
+    private final NegativeLookupFilter knownIds;
+    // Generation de la collection : incrementee apres chaque ecriture, sert d'ETag a la liste.
+    // Demarre a l'horodatage (decale) pour ne pas reproduire une valeur deja emise avant un redemarrage.
+    // Ne voit que les ecritures passees par cette instance.
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis() << 20);
+
+    // Cle d'une lecture par id (fields null = document complet)
+    private record Lookup(String id, Set<String> fields) {}
 
     public PosterRepository() {
-        String host = getEnv("MONGO_HOST", "mongodb");
-        String port = getEnv("MONGO_PORT", "27017");
-        String db   = getEnv("MONGO_DB",   "posters_db");
+        this(AppConfig.get(), createEngine(AppConfig.get()));
+    }
+
+    public PosterRepository(AppConfig config, StorageEngine engine) {
+        this.engine = engine;
+        this.asyncEngine = engine instanceof AsyncStorageEngine async && async.asyncEnabled() ? async : null;
+        this.bulkChunkSize = Math.max(1, config.getInt("bulk.chunk.size", 1000));
+        this.cache = buildCache(config);
+        this.offHeap = new OffHeapPosterCache(config);
+        this.knownIds = new NegativeLookupFilter(config, this::forEachId, engine::estimatedCount);
+        knownIds.start();
+    }
 
-        this.mongoClient = MongoClients.create("mongodb://" + host + ":" + port);
-        MongoDatabase database = mongoClient.getDatabase(db);
-        this.collection = database.getCollection("posters");
+    /** Moteur designe par storage.engine : mongo (defaut), memory ou log. */
+    public static StorageEngine createEngine(AppConfig config) {
+        String name = config.getString("storage.engine", "mongo").trim().toLowerCase(Locale.ROOT);
+        return switch (name) {
+            case "mongo" -> new MongoStorageEngine(config);
+            case "memory" -> new InMemoryStorageEngine(config);
+            case "log" -> new LogStorageEngine(config);
+            default -> throw new IllegalStateException("storage.engine inconnu : " + name + " (mongo, memory, log)");
+        };
     }
 
     public void close() {
-        if (mongoClient != null) {
-            mongoClient.close();
+        knownIds.close();
+        engine.close();
+    }
+
+    /**
+     * Parcourt toute la collection, triee par _id, sans la charger en memoire : chaque poster est transmis
+     * au consumer des sa lecture.
+     */
+    public void forEach(Set<String> fields, StorageEngine.RawPosterConsumer consumer) throws IOException {
+        engine.forEach(fields, consumer, null);
+    }
+
+    /** Variante causale : le parcours voit au moins les ecritures du jeton after (null = aucun). */
+    public void forEach(Set<String> fields, StorageEngine.RawPosterConsumer consumer, CausalToken after) throws IOException {
+        engine.forEach(fields, consumer, after);
+    }
+
+    // Tous les ids (sur MongoDB, parcours couvert de l'index _id)
+    private void forEachId(Consumer<String> sink) throws IOException {
+        engine.forEach(Set.of("id"), doc -> sink.accept(BsonJsonTranscoder.id(doc)), null);
+    }
+
+    /**
+     * Page de posters triee par _id, a partir de l'_id exclu afterId (null = debut) : le cout ne depend pas
+     * de la position de la page.
+     */
+    public List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields) {
+        return engine.findPage(afterId, limit, fields, null);
+    }
+
+    /** Variante causale de findPage (after null = aucun jeton du client). */
+    public List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields, CausalToken after) {
+        return engine.findPage(afterId, limit, fields, after);
+    }
+
+    /**
+     * Lecture via les caches (tas puis hors tas) : seuls les defauts de cache interrogent le moteur (les absents
+     * ne sont pas memorises). Les defauts concurrents sur un meme id, absents compris, partagent une seule lecture.
+     */
+    public Poster findById(String id) {
+        Poster cached = cached(id);
+        if (cached != null) {
+            return cached;
+        }
+        if (!knownIds.mightContain(id)) {
+            return null;
+        }
+        // Lecture hors de cache.get : pas d'E/S sous le verrou d'une entree du cache (threads virtuels)
+        Poster poster = lookups.run(new Lookup(id, null), () -> {
+            long startGeneration = generation.get();
+            Poster loaded = engine.findById(id, null, null);
+            if (loaded != null) {
+                cacheLoaded(loaded, startGeneration);
+            }
+            return loaded;
+        });
+        if (poster == null) {
+            knownIds.recordFalsePositive();
+        }
+        return poster;
+    }
+
+    // Poster complet dans le cache du tas, sinon hors tas (servi sans remonter dans le tas, qui ne se
+    // remplit que depuis le moteur : voir cacheLoaded)
+    private Poster cached(String id) {
+        Poster cached = cache.getIfPresent(id);
+        return cached != null ? cached : offHeap.get(id);
+    }
+
+    /**
+     * false si l'id n'existe surement pas (sans lecture du moteur), true s'il existe peut-etre. Consultation
+     * discrete du cache : la lecture qui suit compte seule dans ses succes et defauts (GET /api/_stats).
+     */
+    public boolean mightExist(String id) {
+        return cache.policy().getIfPresentQuietly(id) != null || knownIds.mightContain(id);
+    }
+
+    /**
+     * Variante projetee : un poster deja en cache est servi tel quel, sinon seuls les champs demandes
+     * (et la version, pour l'ETag) sont lus, sans alimenter le cache.
+     */
+    public Poster findById(String id, Set<String> fields) {
+        if (fields == null) {
+            return findById(id);
+        }
+        Poster cached = cached(id);
+        if (cached != null) {
+            return cached;
+        }
+        if (!knownIds.mightContain(id)) {
+            return null;
         }
+        Poster poster = lookups.run(new Lookup(id, Set.copyOf(fields)), () -> engine.findById(id, fields, null));
+        if (poster == null) {
+            knownIds.recordFalsePositive();
+        }
+        return poster;
+    }
+
+    /**
+     * Lecture causale (X-Causal-Token) : directement dans le moteur, sans cache ni filtre des ids, qui peuvent
+     * ignorer une ecriture faite par une autre instance.
+     */
+    public Poster findById(String id, Set<String> fields, CausalToken after) {
+        return engine.findById(id, fields, after);
+    }
+
+    /*
+     * Lectures non bloquantes (async.enabled, moteur mongo) : memes regles que leurs equivalents bloquants
+     * (cache, filtre des ids, une seule lecture en vol par id), mais aucun thread n'attend MongoDB. Les
+     * futurs se terminent sur les threads du driver.
+     */
+
+    /** Sans moteur non bloquant, les methodes *Async ne doivent pas etre appelees. */
+    public boolean asyncEnabled() {
+        return asyncEngine != null;
     }
 
-    public List<Poster> findAll() {
-        List<Poster> posters = new ArrayList<>();
-        for (Document doc : collection.find()) {
-            posters.add(docToPoster(doc));
+    /** Equivalent non bloquant de findById(id, fields) ; le futur vaut null si le poster n'existe pas. */
+    public CompletableFuture<Poster> findByIdAsync(String id, Set<String> fields) {
+        Poster cached = cached(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (!knownIds.mightContain(id)) {
+            return CompletableFuture.completedFuture(null);
         }
-        return posters;
+        Lookup key = new Lookup(id, fields != null ? Set.copyOf(fields) : null);
+        return lookups.runAsync(key, () -> {
+            long startGeneration = generation.get();
+            return asyncEngine.findByIdAsync(id, fields).thenApply(poster -> {
+                if (poster == null) {
+                    knownIds.recordFalsePositive();
+                } else if (fields == null) {
+                    cacheLoaded(poster, startGeneration);
+                }
+                return poster;
+            });
+        });
     }
 
-    public Poster findById(String id) {
-        Document doc = collection.find(Filters.eq("_id", id)).first();
-        return doc != null ? docToPoster(doc) : null;
+    /** Equivalent non bloquant de findPage. */
+    public CompletableFuture<List<RawBsonDocument>> findPageAsync(String afterId, int limit, Set<String> fields) {
+        return asyncEngine.findPageAsync(afterId, limit, fields);
     }
 
-    public void save(Poster poster) {
-        collection.insertOne(posterToDoc(poster));
+    /**
+     * Toute la collection, lot par lot : le consommateur regle le debit par ses demandes (request), rien
+     * n'est lu d'avance au-dela.
+     */
+    public Publisher<RawBsonDocument> findAllAsync(Set<String> fields) {
+        return asyncEngine.findAllAsync(fields);
     }
 
-    public void update(String id, Poster poster) {
-        if (poster.getUrl() != null && !poster.getUrl().isBlank()) {
-            collection.updateOne(Filters.eq("_id", id), Updates.set("url", poster.getUrl()));
+    /**
+     * Resout plusieurs ids : ceux presents dans le cache, puis tous les autres en une seule lecture du moteur.
+     * Les posters lus n'alimentent pas le cache (seul findById le remplit, de facon atomique avec l'invalidation).
+     * @return les posters trouves, par id (les absents n'y figurent pas)
+     */
+    public Map<String, Poster> findByIds(Collection<String> ids, Set<String> fields) {
+        return findByIds(ids, fields, null);
+    }
+
+    /** Variante causale : avec un jeton after, tous les ids sont lus dans le moteur (ni cache ni filtre). */
+    public Map<String, Poster> findByIds(Collection<String> ids, Set<String> fields, CausalToken after) {
+        Map<String, Poster> found = after == null ? new HashMap<>(cache.getAllPresent(ids)) : new HashMap<>();
+        List<String> toLoad = new ArrayList<>(ids.size() - found.size());
+        for (String id : ids) {
+            if (found.containsKey(id)) {
+                continue;
+            }
+            Poster offHeapHit = after == null ? offHeap.get(id) : null;
+            if (offHeapHit != null) {
+                found.put(id, offHeapHit);
+            } else if (after != null || knownIds.mightContain(id)) {
+                toLoad.add(id);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return found;
         }
-        if (poster.getTitre() != null && !poster.getTitre().isBlank()) {
-            collection.updateOne(Filters.eq("_id", id), Updates.set("titre", poster.getTitre()));
+        for (Poster poster : engine.findByIds(toLoad, fields, after)) {
+            found.put(poster.getId(), poster);
         }
+        return found;
     }
 
-    public boolean delete(String id) {
-        long deleted = collection.deleteOne(Filters.eq("_id", id)).getDeletedCount();
-        return deleted > 0;
+    /**
+     * Insertion directe : l'unicite de l'id est garantie par le moteur, sans verification prealable.
+     * @return false si un poster avec cet id existe deja
+     */
+    public boolean save(Poster poster) {
+        poster.setVersion(StorageEngine.newVersion());
+        if (!engine.insert(poster)) {
+            return false;
+        }
+        generation.incrementAndGet();
+        invalidate(poster.getId());
+        knownIds.add(poster.getId());
+        return true;
     }
 
-    public boolean exists(String id) {
-        return collection.find(Filters.eq("_id", id)).first() != null;
+    /**
+     * Met a jour url et/ou titre (champs non vides du patch) en une seule operation du moteur.
+     * Si expectedVersions est fourni (If-Match), la version est verifiee dans la meme operation.
+     * @return le poster apres modification, ou null s'il n'existe pas (sans expectedVersions)
+     * @throws VersionConflictException si expectedVersions est fourni et que le poster est absent ou dans une autre version
+     */
+    public Poster update(String id, Poster patch, Collection<Long> expectedVersions) {
+        String url = patch.getUrl() != null && !patch.getUrl().isBlank() ? patch.getUrl() : null;
+        String titre = patch.getTitre() != null && !patch.getTitre().isBlank() ? patch.getTitre() : null;
+        if (url == null && titre == null) {
+            Poster current = findById(id);
+            if (expectedVersions != null && (current == null || !expectedVersions.contains(current.getVersion()))) {
+                throw new VersionConflictException(id);
+            }
+            return current;
+        }
+
+        Poster updated = engine.update(id, url, titre, expectedVersions);
+        if (updated != null) {
+            generation.incrementAndGet();
+        }
+        invalidate(id);
+        if (updated == null) {
+            checkConflict(id, expectedVersions);
+        }
+        return updated;
+    }
+
+    /**
+     * Suppression, conditionnee a la version si expectedVersions est fourni (If-Match).
+     * @return false si le poster n'existe pas (sans expectedVersions)
+     * @throws VersionConflictException si expectedVersions est fourni et que le poster est absent ou dans une autre version
+     */
+    public boolean delete(String id, Collection<Long> expectedVersions) {
+        boolean deleted = engine.delete(id, expectedVersions);
+        if (deleted) {
+            generation.incrementAndGet();
+        }
+        invalidate(id);
+        if (!deleted) {
+            checkConflict(id, expectedVersions);
+        }
+        return deleted;
+    }
+
+    /**
+     * Insere un lot de posters valides, sans ordre. Les doublons sont ignores (et comptes par l'appelant :
+     * taille du lot - valeur retournee), toute autre erreur est propagee.
+     * @return le nombre de posters inseres
+     */
+    public int insertMany(List<Poster> posters) {
+        for (Poster poster : posters) {
+            poster.setVersion(StorageEngine.newVersion());
+        }
+        int inserted = engine.insertMany(posters);
+        if (inserted > 0) {
+            // Une lecture en vol commencee avant l'insertion ne doit pas repondre "absent" aux suivants
+            Set<String> ids = new HashSet<>(posters.size() * 2);
+            for (Poster poster : posters) {
+                ids.add(poster.getId());
+            }
+            lookups.forgetIf(lookup -> ids.contains(lookup.id()));
+            ids.forEach(knownIds::add);
+            generation.incrementAndGet();
+        }
+        return inserted;
+    }
+
+    /**
+     * Execute un lot d'operations deja validees, par tranches de bulk.chunk.size, chacune en un
+     * bulkWrite non ordonne du moteur. Les operations d'une meme tranche sont independantes : leur ordre
+     * d'execution n'est pas garanti.
+     * Par tranche : une lecture des ids des update/delete (absents -> 404), puis le bulkWrite
+     * (cle dupliquee -> 409).
+     * @return un resultat par operation, dans l'ordre de la liste
+     */
+    public List<BulkItemResult> bulkWrite(List<BulkOperation> operations) {
+        List<BulkItemResult> results = new ArrayList<>(operations.size());
+        for (int from = 0; from < operations.size(); from += bulkChunkSize) {
+            List<BulkOperation> chunk = operations.subList(from, Math.min(operations.size(), from + bulkChunkSize));
+            results.addAll(bulkWriteChunk(chunk, from));
+        }
+        return results;
+    }
+
+    private List<BulkItemResult> bulkWriteChunk(List<BulkOperation> chunk, int offset) {
+        Set<String> existing = existingIds(chunk);
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        List<BulkOperation> toWrite = new ArrayList<>(chunk.size());
+        List<Integer> writeToOp = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkOperation op = chunk.get(i);
+            if (!op.op().equals("create") && !existing.contains(op.id())) {
+                results[i] = new BulkItemResult(offset + i, op.op(), op.id(), 404, "Poster introuvable : " + op.id());
+                continue;
+            }
+            toWrite.add(op);
+            writeToOp.add(i);
+        }
+
+        if (!toWrite.isEmpty()) {
+            engine.bulkWrite(toWrite).forEach((index, failure) -> {
+                int i = writeToOp.get(index);
+                BulkOperation op = chunk.get(i);
+                results[i] = new BulkItemResult(offset + i, op.op(), op.id(), failure.status(), failure.message());
+            });
+        }
+
+        boolean written = false;
+        for (int i : writeToOp) {
+            BulkOperation op = chunk.get(i);
+            if (results[i] == null) {
+                int status = switch (op.op()) {
+                    case "create" -> 201;
+                    case "delete" -> 204;
+                    default -> 200;
+                };
+                results[i] = new BulkItemResult(offset + i, op.op(), op.id(), status, null);
+                if (status == 201) {
+                    knownIds.add(op.id());
+                }
+                written = true;
+            }
+        }
+        if (written) {
+            generation.incrementAndGet();
+        }
+        for (int i : writeToOp) {
+            invalidate(chunk.get(i).id());
+        }
+        return List.of(results);
+    }
+
+    private Set<String> existingIds(List<BulkOperation> chunk) {
+        List<String> ids = new ArrayList<>();
+        for (BulkOperation op : chunk) {
+            // Un id absent du filtre n'existe surement pas : inutile de le demander
+            if (!op.op().equals("create") && knownIds.mightContain(op.id())) {
+                ids.add(op.id());
+            }
+        }
+        return ids.isEmpty() ? new HashSet<>() : engine.existingIds(ids);
+    }
+
+    /** true si les GET acceptent un jeton X-Causal-Token (lectures hors primaire, mongo.read.causal). */
+    public boolean causalReads() {
+        return engine.causalReads();
+    }
+
+    /** Jeton de la derniere ecriture de cette instance, a renvoyer au client apres une ecriture (null = aucun). */
+    public CausalToken causalToken() {
+        return engine.causalToken();
+    }
+
+    /** Generation courante de la collection, a lire avant la requete dont elle qualifie le resultat. */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** Compteurs des caches findById et du moteur de stockage, exposes par GET /api/_stats. */
+    public Map<String, Object> stats() {
+        CacheStats cs = cache.stats();
+        Map<String, Object> cacheStats = new LinkedHashMap<>();
+        cacheStats.put("hits", cs.hitCount());
+        cacheStats.put("misses", cs.missCount());
+        cacheStats.put("evictions", cs.evictionCount());
+        cacheStats.put("hitRate", cs.hitRate());
+        cacheStats.put("size", cache.estimatedSize());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cache", cacheStats);
+        stats.put("offHeap", offHeap.stats());
+        stats.put("lookups", lookups.stats());
+        stats.put("knownIds", knownIds.stats());
+        stats.put("engine", engine.name());
+        stats.putAll(engine.stats());
+        return stats;
+    }
+
+    /** Index du moteur de stockage et leurs acces (null si le moteur n'en declare pas). */
+    public Map<String, Object> indexes() {
+        return engine.indexes();
+    }
+
+    /*
+     * Poster lu hors de cache.get : memorise, puis retire si une ecriture a eu lieu
+     * depuis le debut de la lecture. Les ecritures incrementent la generation avant d'invalider : soit
+     * l'invalidation suit ce put et le retire, soit la generation a deja change et il est retire ici.
+     */
+    private void cacheLoaded(Poster poster, long startGeneration) {
+        cache.put(poster.getId(), poster);
+        offHeap.put(poster);
+        if (generation.get() != startGeneration) {
+            cache.asMap().remove(poster.getId(), poster);
+            offHeap.invalidate(poster.getId());
+        }
+    }
+
+    // Apres une ecriture, et apres l'increment de generation (voir cacheLoaded) : entree du cache retiree,
+    // lectures en vol sur cet id detachees
+    private void invalidate(String id) {
+        cache.invalidate(id);
+        offHeap.invalidate(id);
+        lookups.forgetIf(lookup -> lookup.id().equals(id));
+    }
+
+    // Appele uniquement apres un echec de l'operation : avec If-Match, un poster absent ne correspond a
+    // aucune version attendue (RFC 9110, 13.1.1) et donne 412 comme une autre version ; sinon 404
+    private void checkConflict(String id, Collection<Long> expectedVersions) {
+        if (expectedVersions != null) {
+            throw new VersionConflictException(id);
+        }
     }
 
-    private Poster docToPoster(Document doc) {
-        return new Poster(doc.getString("_id"), doc.getString("url"), doc.getString("titre"));
+    /**
+     * Cache borne en octets (poids estime de chaque poster), admission W-TinyLFU de Caffeine :
+     * les titres populaires restent en memoire, les lectures isolees n'evincent pas les entrees chaudes.
+     */
+    private static Cache<String, Poster> buildCache(AppConfig config) {
+        long maxBytes = Math.max(0, config.getLong("cache.posters.maxbytes", 16L * 1024 * 1024));
+        Duration ttl = config.getDuration("cache.posters.ttl", Duration.ofMinutes(5));
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String id, Poster poster) -> estimateSize(poster))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 
-    private Document posterToDoc(Poster poster) {
-        return new Document("_id", poster.getId())
-                .append("url",   poster.getUrl())
-                .append("titre", poster.getTitre());
+    private static int estimateSize(Poster poster) {
+        int chars = length(poster.getId()) + length(poster.getUrl()) + length(poster.getTitre());
+        return 64 + 2 * chars;
     }
 
-    private String getEnv(String key, String defaultValue) {
-        String value = System.getenv(key);
-        return (value != null && !value.isBlank()) ? value : defaultValue;
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
     }
 }
@@ -0,0 +1,351 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.api.entities.Poster;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Forme des documents posters dans MongoDB (mongo.schema), traduite par MongoStorageEngine : le JSON de
+ * l'API est le meme quel que soit le schema.
+ *
+ *   classic : {_id: "tt0111161", url: "https://m.media-amazon.com/images/M/MV5B...jpg", titre: "...", version: 1}
+ *   compact : {_id: 111161, p: 1, u: "MV5B...jpg", t: "...", v: 1}
+ *
+ * Schema compact : un id IMDb canonique ("tt" et 7 chiffres au moins, sans zero de tete au-dela de 7) devient
+ * un entier int32, cle d'index de 4 octets au lieu d'une chaine ; tout autre id reste une chaine. Les noms de
+ * champs tiennent en une lettre et l'url est decoupee en un code de prefixe (p, voir Compact.PREFIXES) et sa
+ * suite (u). Les ids entiers sont tries avant les chaines, par valeur : l'ordre des listes n'est donc pas
+ * celui du schema classic (tt9999999 avant tt10000000).
+ */
+sealed interface PosterSchema permits PosterSchema.Classic, PosterSchema.Compact {
+
+    static PosterSchema of(AppConfig config) {
+        return of(config.getString("mongo.schema", "classic"));
+    }
+
+    static PosterSchema of(String name) {
+        return switch (name) {
+            case "classic" -> Classic.INSTANCE;
+            case "compact" -> Compact.INSTANCE;
+            default -> throw new IllegalArgumentException("mongo.schema inconnu : " + name + " (classic, compact)");
+        };
+    }
+
+    String name();
+
+    /** Valeur de _id pour un id de l'API. */
+    Object id(String id);
+
+    /** Id de l'API pour une valeur de _id lue. */
+    String id(Object value);
+
+    /** Filtre des ids qui suivent afterId dans l'ordre de l'index _id. */
+    Bson after(String afterId);
+
+    /** Nom du champ titre dans les documents. */
+    String titreField();
+
+    /** Champs lus pour les champs demandes (id, url, titre), _id compris ; null pour tous. */
+    Bson projection(Set<String> fields);
+
+    /** projection(fields) et le champ de version. */
+    Bson projectionWithVersion(Set<String> fields);
+
+    /** Modification de url et titre (null : inchange) et increment de la version. */
+    Bson update(String url, String titre);
+
+    /** Version dans expectedVersions, la version 0 etant aussi celle d'un document sans champ de version. */
+    Bson versionIn(Collection<Long> expectedVersions);
+
+    Document toDocument(Poster poster);
+
+    Poster toPoster(Document doc);
+
+    final class Classic implements PosterSchema {
+
+        static final Classic INSTANCE = new Classic();
+
+        private Classic() {}
+
+        @Override
+        public String name() {
+            return "classic";
+        }
+
+        @Override
+        public Object id(String id) {
+            return id;
+        }
+
+        @Override
+        public String id(Object value) {
+            return (String) value;
+        }
+
+        @Override
+        public Bson after(String afterId) {
+            return Filters.gt("_id", afterId);
+        }
+
+        @Override
+        public String titreField() {
+            return "titre";
+        }
+
+        @Override
+        public Bson projection(Set<String> fields) {
+            if (fields == null) {
+                return null;
+            }
+            List<String> include = new ArrayList<>(3);
+            include.add("_id");
+            if (fields.contains("url")) {
+                include.add("url");
+            }
+            if (fields.contains("titre")) {
+                include.add("titre");
+            }
+            return Projections.include(include);
+        }
+
+        @Override
+        public Bson projectionWithVersion(Set<String> fields) {
+            return Projections.fields(projection(fields), Projections.include("version"));
+        }
+
+        @Override
+        public Bson update(String url, String titre) {
+            List<Bson> updates = new ArrayList<>(3);
+            if (url != null) {
+                updates.add(Updates.set("url", url));
+            }
+            if (titre != null) {
+                updates.add(Updates.set("titre", titre));
+            }
+            updates.add(Updates.inc("version", 1L));
+            return Updates.combine(updates);
+        }
+
+        @Override
+        public Bson versionIn(Collection<Long> expectedVersions) {
+            return PosterSchema.versionIn("version", expectedVersions);
+        }
+
+        @Override
+        public Document toDocument(Poster poster) {
+            return new Document("_id", poster.getId())
+                    .append("url",     poster.getUrl())
+                    .append("titre",   poster.getTitre())
+                    .append("version", poster.getVersion());
+        }
+
+        @Override
+        public Poster toPoster(Document doc) {
+            Poster poster = new Poster(doc.getString("_id"), doc.getString("url"), doc.getString("titre"));
+            poster.setVersion(version(doc.get("version")));
+            return poster;
+        }
+    }
+
+    final class Compact implements PosterSchema {
+
+        static final Compact INSTANCE = new Compact();
+
+        /*
+         * Dictionnaire des prefixes d'url : code = position + 1, 0 (champ p absent) = pas de prefixe. Ajout en
+         * fin de liste seulement, les codes deja ecrits ne doivent pas changer. Le plus long prefixe gagne.
+         */
+        static final List<String> PREFIXES = List.of(
+                "https://m.media-amazon.com/images/M/",
+                "https://m.media-amazon.com/images/",
+                "https://ia.media-imdb.com/images/M/",
+                "https://",
+                "http://");
+
+        private static final byte[][] PREFIX_BYTES = PREFIXES.stream()
+                .map(prefix -> prefix.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+
+        private Compact() {}
+
+        @Override
+        public String name() {
+            return "compact";
+        }
+
+        /** Entier pour un id IMDb canonique, l'id lui-meme sinon. */
+        @Override
+        public Object id(String id) {
+            int length = id.length();
+            if (length < 9 || length > 12 || id.charAt(0) != 't' || id.charAt(1) != 't'
+                    || (length > 9 && id.charAt(2) == '0')) {
+                return id;
+            }
+            long value = 0;
+            for (int i = 2; i < length; i++) {
+                char c = id.charAt(i);
+                if (c < '0' || c > '9') {
+                    return id;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value <= Integer.MAX_VALUE ? (Object) (int) value : id;
+        }
+
+        @Override
+        public String id(Object value) {
+            return value instanceof Integer n ? imdbId(n) : (String) value;
+        }
+
+        static String imdbId(int value) {
+            String digits = Integer.toString(value);
+            return digits.length() >= 7 ? "tt" + digits : "tt" + "0000000".substring(digits.length()) + digits;
+        }
+
+        /*
+         * MongoDB compare les types avant les valeurs (nombres avant chaines) : apres un id entier, les
+         * entiers plus grands puis toutes les chaines ; apres une chaine, les chaines plus grandes.
+         */
+        @Override
+        public Bson after(String afterId) {
+            Object value = id(afterId);
+            return value instanceof Integer
+                    ? Filters.or(Filters.gt("_id", value), Filters.type("_id", BsonType.STRING))
+                    : Filters.gt("_id", value);
+        }
+
+        @Override
+        public String titreField() {
+            return "t";
+        }
+
+        @Override
+        public Bson projection(Set<String> fields) {
+            if (fields == null) {
+                return null;
+            }
+            List<String> include = new ArrayList<>(4);
+            include.add("_id");
+            if (fields.contains("url")) {
+                include.add("p");
+                include.add("u");
+            }
+            if (fields.contains("titre")) {
+                include.add("t");
+            }
+            return Projections.include(include);
+        }
+
+        @Override
+        public Bson projectionWithVersion(Set<String> fields) {
+            return Projections.fields(projection(fields), Projections.include("v"));
+        }
+
+        @Override
+        public Bson update(String url, String titre) {
+            List<Bson> updates = new ArrayList<>(4);
+            if (url != null) {
+                int code = prefixCode(url);
+                if (code > 0) {
+                    updates.add(Updates.set("p", code));
+                    updates.add(Updates.set("u", url.substring(PREFIXES.get(code - 1).length())));
+                } else {
+                    updates.add(Updates.unset("p"));
+                    updates.add(Updates.set("u", url));
+                }
+            }
+            if (titre != null) {
+                updates.add(Updates.set("t", titre));
+            }
+            updates.add(Updates.inc("v", 1));
+            return Updates.combine(updates);
+        }
+
+        @Override
+        public Bson versionIn(Collection<Long> expectedVersions) {
+            return PosterSchema.versionIn("v", expectedVersions);
+        }
+
+        /** Champs absents plutot que nuls ; version en int32 si elle y tient (documents migres), int64 sinon. */
+        @Override
+        public Document toDocument(Poster poster) {
+            Document doc = new Document("_id", id(poster.getId()));
+            String url = poster.getUrl();
+            if (url != null) {
+                int code = prefixCode(url);
+                if (code > 0) {
+                    doc.append("p", code).append("u", url.substring(PREFIXES.get(code - 1).length()));
+                } else {
+                    doc.append("u", url);
+                }
+            }
+            if (poster.getTitre() != null) {
+                doc.append("t", poster.getTitre());
+            }
+            long version = poster.getVersion();
+            return doc.append("v", version <= Integer.MAX_VALUE ? (Object) (int) version : version);
+        }
+
+        @Override
+        public Poster toPoster(Document doc) {
+            String url = doc.getString("u");
+            Object code = doc.get("p");
+            if (url != null && code instanceof Integer n) {
+                url = prefix(n) + url;
+            }
+            Poster poster = new Poster(id(doc.get("_id")), url, doc.getString("t"));
+            poster.setVersion(version(doc.get("v")));
+            return poster;
+        }
+
+        static String prefix(int code) {
+            if (code < 1 || code > PREFIXES.size()) {
+                throw new IllegalStateException("Code de prefixe d'url inconnu : " + code);
+            }
+            return PREFIXES.get(code - 1);
+        }
+
+        static byte[] prefixBytes(int code) {
+            prefix(code);
+            return PREFIX_BYTES[code - 1];
+        }
+
+        // Code du plus long prefixe de url, 0 si aucun
+        static int prefixCode(String url) {
+            int best = 0;
+            int bestLength = 0;
+            for (int i = 0; i < PREFIXES.size(); i++) {
+                String prefix = PREFIXES.get(i);
+                if (prefix.length() > bestLength && url.startsWith(prefix)) {
+                    best = i + 1;
+                    bestLength = prefix.length();
+                }
+            }
+            return best;
+        }
+    }
+
+    private static Bson versionIn(String field, Collection<Long> expectedVersions) {
+        Bson version = Filters.in(field, expectedVersions);
+        if (expectedVersions.contains(0L)) {
+            // Version 0 : document anterieur au versionnement, sans champ version
+            version = Filters.or(version, Filters.exists(field, false));
+        }
+        return version;
+    }
+
+    // Les documents anterieurs au versionnement n'ont pas de champ version : version 0
+    private static long version(Object version) {
+        return version instanceof Number n ? n.longValue() : 0L;
+    }
+}
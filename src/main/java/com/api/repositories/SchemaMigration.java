@@ -0,0 +1,240 @@
+package com.api.repositories;
+
+import com.api.config.AppConfig;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Migration en ligne d'une collection de posters d'un schema a l'autre (voir PosterSchema), vers une autre
+ * collection de la meme base, pendant que l'API continue de servir la source :
+ *
+ *   1. l'instant de depart est releve, puis la source est copiee par lots, convertie (remplacements
+ *      idempotents : une migration interrompue peut etre relancee) ;
+ *   2. les modifications faites depuis le depart sont rejouees depuis le flux de modifications (change
+ *      stream, replica set requis), par lots, jusqu'a ce que le flux depasse l'instant de fin de la copie ;
+ *      avec --follow, le rejeu continue jusqu'a l'arret du processus, le temps de basculer les instances
+ *      (MONGO_COLLECTION, MONGO_SCHEMA) ;
+ *   3. taille des documents, stockage et index de la source et de la cible sont affiches avant et apres.
+ *
+ * Sans replica set, pas de flux de modifications : copie seule, les ecritures doivent etre arretees.
+ *
+ * java -cp "WEB-INF/classes:WEB-INF/lib/*" com.api.repositories.SchemaMigration posters posters_compact [--to=compact] [--follow]
+ * java -cp "WEB-INF/classes:WEB-INF/lib/*" com.api.repositories.SchemaMigration --stats posters posters_compact
+ *
+ * Connexion et base : cles mongo.* d'AppConfig, comme l'API.
+ */
+public final class SchemaMigration {
+
+    private static final int BATCH = 1000;
+
+    private SchemaMigration() {}
+
+    public static void main(String[] args) {
+        List<String> names = new ArrayList<>();
+        boolean follow = false;
+        boolean statsOnly = false;
+        String from = "classic";
+        String to = "compact";
+        for (String arg : args) {
+            if (arg.equals("--follow")) {
+                follow = true;
+            } else if (arg.equals("--stats")) {
+                statsOnly = true;
+            } else if (arg.startsWith("--from=")) {
+                from = arg.substring("--from=".length());
+            } else if (arg.startsWith("--to=")) {
+                to = arg.substring("--to=".length());
+            } else {
+                names.add(arg);
+            }
+        }
+        if (names.isEmpty() || (!statsOnly && names.size() != 2)) {
+            System.err.println("usage : SchemaMigration <source> <cible> [--from=classic] [--to=compact] [--follow]");
+            System.err.println("        SchemaMigration --stats <collection>...");
+            System.exit(2);
+        }
+
+        AppConfig config = AppConfig.get();
+        try (MongoClient client = MongoClients.create(MongoSettings.build(config, null, null))) {
+            MongoDatabase db = client.getDatabase(config.getString("mongo.db", "posters_db"));
+            if (statsOnly) {
+                printStats(db, names);
+                return;
+            }
+            PosterSchema source = PosterSchema.of(from);
+            PosterSchema target = PosterSchema.of(to);
+            printStats(db, names);
+            migrate(client, db, db.getCollection(names.get(0)), db.getCollection(names.get(1)), source, target, follow);
+            printStats(db, names);
+        }
+    }
+
+    private static void migrate(MongoClient client, MongoDatabase db, MongoCollection<Document> source,
+                                MongoCollection<Document> target, PosterSchema from, PosterSchema to, boolean follow) {
+        // Releve avant la copie : une ecriture faite pendant la copie est rejouee ensuite, au pire deux fois
+        BsonTimestamp start;
+        try (ClientSession session = client.startSession()) {
+            db.runCommand(session, new Document("ping", 1));
+            start = session.getOperationTime();
+        }
+
+        long copied = 0;
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH);
+        try (MongoCursor<Document> cursor = source.find().batchSize(BATCH).cursor()) {
+            while (cursor.hasNext()) {
+                batch.add(replace(to.toDocument(from.toPoster(cursor.next()))));
+                if (batch.size() == BATCH || !cursor.hasNext()) {
+                    target.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+                    copied += batch.size();
+                    batch.clear();
+                    System.out.println("copie : " + copied);
+                }
+            }
+        }
+
+        // Fin de la copie : le rejeu n'est complet qu'une fois le flux de modifications parvenu a cet instant
+        BsonTimestamp copyEnd;
+        try (ClientSession session = client.startSession()) {
+            db.runCommand(session, new Document("ping", 1));
+            copyEnd = session.getOperationTime();
+        }
+        if (start == null || copyEnd == null) {
+            System.out.println("serveur sans replica set : pas de flux de modifications, copie seule");
+            return;
+        }
+        long replayed = 0;
+        // Derniere modification par document : un lot non ordonne ne peut alors pas inverser deux modifications
+        Map<BsonDocument, WriteModel<Document>> pending = new LinkedHashMap<>();
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> changes = source.watch()
+                .startAtOperationTime(start).fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS).cursor()) {
+            boolean caughtUp = false;
+            while (true) {
+                // Attend au plus maxAwaitTime une modification : pas de boucle active en suivi
+                ChangeStreamDocument<Document> change = changes.tryNext();
+                if (change != null) {
+                    WriteModel<Document> model = replay(from, to, change);
+                    if (model != null) {
+                        pending.put(change.getDocumentKey(), model);
+                        if (++replayed % BATCH == 0) {
+                            System.out.println("rejeu : " + replayed);
+                        }
+                    }
+                    caughtUp |= passed(change.getClusterTime(), copyEnd);
+                } else {
+                    caughtUp |= passed(resumeTime(changes.getResumeToken()), copyEnd);
+                }
+                if (pending.size() == BATCH || (change == null && !pending.isEmpty())) {
+                    target.bulkWrite(new ArrayList<>(pending.values()), new BulkWriteOptions().ordered(false));
+                    pending.clear();
+                }
+                if (change == null && caughtUp && !follow) {
+                    break;
+                }
+            }
+        }
+        System.out.println("rejeu : " + replayed + " (source rattrapee)");
+    }
+
+    private static boolean passed(BsonTimestamp time, BsonTimestamp target) {
+        return time != null && time.compareTo(target) >= 0;
+    }
+
+    /*
+     * Instant atteint par le flux, lu dans son jeton de reprise (postBatchResumeToken quand le lot est vide) :
+     * le champ _data commence par l'horodatage du cluster, en hexadecimal (octet de type 0x82, puis secondes
+     * et increment sur 4 octets chacun). null si le jeton n'a pas cette forme.
+     */
+    private static BsonTimestamp resumeTime(BsonDocument token) {
+        if (token == null || !token.isString("_data")) {
+            return null;
+        }
+        String data = token.getString("_data").getValue();
+        if (data.length() < 18 || !data.regionMatches(true, 0, "82", 0, 2)) {
+            return null;
+        }
+        try {
+            return new BsonTimestamp(Long.parseUnsignedLong(data.substring(2, 18), 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Document courant de la source (ou suppression) : l'ordre du flux fait converger la cible
+    private static WriteModel<Document> replay(PosterSchema from, PosterSchema to, ChangeStreamDocument<Document> change) {
+        switch (change.getOperationType()) {
+            case INSERT, UPDATE, REPLACE, DELETE -> {
+                Document full = change.getFullDocument();
+                if (full != null) {
+                    return replace(to.toDocument(from.toPoster(full)));
+                }
+                BsonValue key = change.getDocumentKey().get("_id");
+                String id = from.id(key.isInt32() ? (Object) key.asInt32().getValue() : key.asString().getValue());
+                return new DeleteOneModel<>(Filters.eq("_id", to.id(id)));
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static ReplaceOneModel<Document> replace(Document doc) {
+        return new ReplaceOneModel<>(Filters.eq("_id", doc.get("_id")), doc, new ReplaceOptions().upsert(true));
+    }
+
+    // collStats : tailles en octets ; size = documents non compresses, storageSize = fichiers (compresses)
+    private static void printStats(MongoDatabase db, List<String> names) {
+        System.out.printf("%-16s", "");
+        for (String name : names) {
+            System.out.printf("%20s", name);
+        }
+        System.out.println();
+        List<Document> stats = new ArrayList<>();
+        for (String name : names) {
+            try {
+                stats.add(db.runCommand(new Document("collStats", name)));
+            } catch (MongoCommandException e) {
+                stats.add(new Document());              // collection absente (cible pas encore creee)
+            }
+        }
+        for (String key : List.of("count", "size", "avgObjSize", "storageSize", "totalIndexSize")) {
+            System.out.printf("%-16s", key);
+            for (Document s : stats) {
+                Object value = s.get(key);
+                System.out.printf("%20s", value instanceof Number n ? n.longValue() : "-");
+            }
+            System.out.println();
+        }
+        System.out.printf("%-16s", "index _id_");
+        for (Document s : stats) {
+            Document indexes = s.get("indexSizes", Document.class);
+            Object value = indexes != null ? indexes.get("_id_") : null;
+            System.out.printf("%20s", value instanceof Number n ? n.longValue() : "-");
+        }
+        System.out.println();
+    }
+}
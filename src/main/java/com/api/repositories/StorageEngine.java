@@ -0,0 +1,115 @@
+package com.api.repositories;
+
+import com.api.dto.BulkOperation;
+import com.api.entities.Poster;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stockage des posters, choisi par storage.engine : mongo (MongoStorageEngine), memory
+ * (InMemoryStorageEngine) ou log (LogStorageEngine). Les caches, le filtre des ids et la generation restent dans PosterRepository :
+ * un moteur ne fait que lire et ecrire, sans rien memoriser pour le compte de l'appelant.
+ *
+ * Les lectures acceptent un ensemble de champs (id, url, titre ; null = tous) : le moteur peut ne lire
+ * que ceux-la, mais l'id et la version sont toujours presents. L'appelant retire ensuite de la reponse
+ * les champs non demandes. after (jeton X-Causal-Token, null = aucun) n'a de sens que pour un moteur
+ * dont les lectures peuvent etre en retard sur les ecritures. Les lectures non bloquantes sont a part,
+ * dans AsyncStorageEngine.
+ */
+public interface StorageEngine extends AutoCloseable {
+
+    /** Recoit les documents bruts un par un lors d'un parcours en flux (voir BsonJsonTranscoder). */
+    @FunctionalInterface
+    interface RawPosterConsumer {
+        void accept(RawBsonDocument poster) throws IOException;
+    }
+
+    /**
+     * Version d'un poster a sa creation : millisecondes courantes decalees de 20 bits, plus 20 bits
+     * aleatoires. Un poster supprime puis recree n'a donc pas la version (ni l'ETag) de l'ancien ; les
+     * modifications l'incrementent de 1, et il en faudrait plus d'un million pour rejoindre la plage d'une
+     * creation posterieure d'une milliseconde.
+     */
+    static long newVersion() {
+        return System.currentTimeMillis() << 20 | ThreadLocalRandom.current().nextInt(1 << 20);
+    }
+
+    /** Nom du moteur (valeur de storage.engine), expose par GET /api/_stats. */
+    String name();
+
+    // Lectures
+
+    /** Toute la collection triee par _id, transmise document par document sans etre chargee en memoire. */
+    void forEach(Set<String> fields, RawPosterConsumer consumer, CausalToken after) throws IOException;
+
+    /** Au plus limit posters tries par _id, a partir de l'_id exclu afterId (null = debut). */
+    List<RawBsonDocument> findPage(String afterId, int limit, Set<String> fields, CausalToken after);
+
+    /** @return le poster, ou null s'il n'existe pas */
+    Poster findById(String id, Set<String> fields, CausalToken after);
+
+    /** @return les posters trouves (les absents n'y figurent pas), dans un ordre quelconque */
+    List<Poster> findByIds(Collection<String> ids, Set<String> fields, CausalToken after);
+
+    /** Parmi ids, ceux qui existent, lus au plus pres des ecritures (verifications avant ecriture). */
+    Set<String> existingIds(Collection<String> ids);
+
+    /** Nombre de posters, approche (dimensionnement du filtre des ids). */
+    long estimatedCount();
+
+    // Ecritures : la version est fixee par l'appelant a l'insertion, incrementee par le moteur a la mise a jour
+
+    /** @return false si un poster avec cet id existe deja */
+    boolean insert(Poster poster);
+
+    /**
+     * Met a jour url et/ou titre (null = inchange) et incremente la version, si le poster est dans l'une
+     * des versions expectedVersions (null = toute version ; 0 = document sans version).
+     * @return le poster apres modification, ou null si aucun poster ne correspond (absent ou autre version)
+     */
+    Poster update(String id, String url, String titre, Collection<Long> expectedVersions);
+
+    /** @return false si aucun poster ne correspond (absent ou autre version) */
+    boolean delete(String id, Collection<Long> expectedVersions);
+
+    /** Insere sans ordre ; les ids deja presents sont ignores. @return le nombre de posters inseres */
+    int insertMany(List<Poster> posters);
+
+    /**
+     * Applique des operations create/update/delete validees, sans ordre garanti entre elles.
+     * @return les operations en echec, par position dans operations (409 id deja present, 500 sinon)
+     */
+    Map<Integer, Failure> bulkWrite(List<BulkOperation> operations);
+
+    /** Echec d'une operation de bulkWrite. */
+    record Failure(int status, String message) {}
+
+    // Lectures causales (voir CausalToken)
+
+    /** true si les lectures peuvent etre en retard sur les ecritures et acceptent un jeton. */
+    default boolean causalReads() {
+        return false;
+    }
+
+    /** Jeton de la derniere ecriture faite par ce moteur (null = aucun). */
+    default CausalToken causalToken() {
+        return null;
+    }
+
+    /** Index secondaires du moteur et leurs acces, exposes par GET /api/_indexes ; null = moteur sans index declares. */
+    default Map<String, Object> indexes() {
+        return null;
+    }
+
+    /** Compteurs propres au moteur, ajoutes a ceux de PosterRepository.stats(). */
+    Map<String, Object> stats();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,13 @@
+package com.api.repositories;
+
+/**
+ * Aucun document dans l'une des versions attendues (If-Match) : autre version, ou document absent.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public VersionConflictException(String id) {
+        super("Version du poster '" + id + "' differente de celle attendue");
+    }
+}
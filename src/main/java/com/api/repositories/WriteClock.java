@@ -0,0 +1,41 @@
+package com.api.repositories;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Instant de la derniere ecriture faite par ce client MongoDB, releve dans les reponses des commandes
+ * d'ecriture (operationTime, $clusterTime). Vaut null tant qu'aucune ecriture n'a eu lieu, ou sur un
+ * serveur isole (standalone) qui ne renvoie pas ces champs.
+ */
+final class WriteClock implements CommandListener {
+
+    private static final Set<String> WRITE_COMMANDS = Set.of("insert", "update", "delete", "findAndModify");
+
+    private final AtomicReference<CausalToken> last = new AtomicReference<>();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (!WRITE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument response = event.getResponse();
+        BsonValue operationTime = response.get("operationTime");
+        if (operationTime == null || !operationTime.isTimestamp()) {
+            return;
+        }
+        BsonValue clusterTime = response.get("$clusterTime");
+        CausalToken token = new CausalToken(operationTime.asTimestamp(),
+                clusterTime != null && clusterTime.isDocument() ? clusterTime.asDocument() : null);
+        last.accumulateAndGet(token, CausalToken::latest);
+    }
+
+    CausalToken last() {
+        return last.get();
+    }
+}
@@ -1,82 +1,466 @@
 package com.api.servlets;
 
+import com.api.cache.JsonResponseCache;
+import com.api.cache.ListingSnapshot;
+import com.api.cache.StaleReadGuard;
+import com.api.config.AppConfig;
+import com.api.dto.BulkItemResult;
+import com.api.dto.BulkOperation;
+import com.api.dto.BulkResponse;
 import com.api.dto.ErrorResponse;
+import com.api.dto.IdsRequest;
+import com.api.dto.ImportProgress;
+import com.api.dto.PosterBatch;
 import com.api.entities.Poster;
+import com.api.repositories.BsonJsonTranscoder;
+import com.api.repositories.CausalToken;
 import com.api.repositories.PosterRepository;
+import com.api.repositories.VersionConflictException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoExecutionTimeoutException;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.bson.RawBsonDocument;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Servlet principale de l'API - MongoDB.
  *
  * Routes :
- *   GET    /api/posters       -> liste tous les posters
+ *   GET    /api/posters       -> liste tous les posters (instantane pre-encode, sinon ecrite en flux par lots)
+ *                                 les listes sont transcodees du BSON brut vers le JSON (BsonJsonTranscoder)
+ *          ?limit=N&after=...  -> pagination par curseur (en-tete X-Next-Cursor pour la page suivante)
+ *          ?ids=a,b,c          -> posters demandes, dans l'ordre (ids introuvables dans X-Missing-Ids)
  *   GET    /api/posters/{id}  -> recupere un poster par son id
+ *   (GET et _mget acceptent ?fields=id,titre : seuls ces champs sont lus dans MongoDB et renvoyes)
  *   POST   /api/posters       -> cree un poster       (body JSON : {"id":"...","url":"...","titre":"..."})
  *   PUT    /api/posters/{id}  -> modifie un poster     (body JSON : {"url":"...","titre":"..."})
  *   DELETE /api/posters/{id}  -> supprime un poster
+ *   POST   /api/posters/_bulk -> lot d'operations create/update/delete (body JSON : [{"op":"create","id":...}, ...])
+ *   POST   /api/posters/_mget -> posters par ids (body JSON : {"ids":["...", ...]}), ids introuvables dans "missing"
+ *   POST   /api/posters/_import -> import NDJSON (application/x-ndjson, un poster par ligne), progression en NDJSON
+ *   GET    /api/_stats        -> compteurs internes (caches, instantane de liste, pools MongoDB, memoire et GC)
+ *   GET    /api/_indexes      -> index MongoDB declares, etat du rapprochement et acces ($indexStats)
  *
- * La connexion est configuree via les variables d'environnement
- * MONGO_HOST, MONGO_PORT, MONGO_DB (definies dans docker-compose.yaml).
+ * Les GET renvoient un ETag fort (version du document, ou empreinte du corps pour une liste ou une page,
+ * la meme sur toutes les instances) et repondent 304 sans corps quand If-None-Match correspond. Les listes
+ * ecrites en flux et les listes par ids n'ont pas d'ETag. PUT et DELETE acceptent If-Match :
+ * la version attendue est verifiee dans la meme operation MongoDB, 412 si elle a change.
+ *
+ * Les posters complets et les pages de liste sont gardes encodes (JsonResponseCache) et ecrits en une
+ * seule fois avec leur Content-Length ; chaque route d'ecriture invalide les entrees concernees.
+ *
+ * Les lectures de GET /posters (liste complete, pages) et /posters/{id} passent par StaleReadGuard : au-dela
+ * du budget de latence, la derniere reponse connue est servie avec les en-tetes Age et Warning: 110,
+ * et 503 (Retry-After) si aucune n'est connue.
+ *
+ * Lectures hors primaire (mongo.read.preference) : chaque ecriture renvoie X-Causal-Token ; un GET (ou _mget)
+ * qui le renvoie est lu directement dans MongoDB, sans caches, par une lecture causale qui voit l'ecriture.
+ *
+ * En mode asynchrone (async.enabled), ces memes GET sont lus par le driver Reactive Streams apres
+ * request.startAsync() et ecrits par un WriteListener : aucun thread de Tomcat n'attend MongoDB.
+ * Le delai de l'AsyncContext (504) remplace alors StaleReadGuard. Les ecritures restent synchrones.
+ *
+ * En mode threads virtuels (threads.virtual, JDK 21+), chaque requete est traitee de facon bloquante sur
+ * son propre thread virtuel ; ce mode prime sur le mode asynchrone. Aucune E/S ne doit se faire dans un
+ * bloc synchronized (thread virtuel epingle a son porteur) : le code de l'API n'en contient aucun.
+ *
+ * Le stockage est choisi par STORAGE_ENGINE (mongo par defaut, memory) ; la connexion MongoDB est configuree
+ * via les variables d'environnement MONGO_HOST, MONGO_PORT, MONGO_DB (definies dans docker-compose.yaml).
  */
-@WebServlet("/api/*")
+@WebServlet(urlPatterns = "/api/*", asyncSupported = true)
 public class ApiServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private static final Logger log = Logger.getLogger(ApiServlet.class.getName());
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String MISSING_IDS_HEADER = "X-Missing-Ids";
+    private static final String CAUSAL_TOKEN_HEADER = "X-Causal-Token";
+    private static final Set<String> POSTER_FIELDS = Set.of("id", "url", "titre");
 
     private PosterRepository repository;
+    private JsonResponseCache jsonCache;
+    private ListingSnapshot listing;
+    private StaleReadGuard readGuard;
+    private JvmMetrics jvm;
     private ObjectMapper mapper;
+    private int defaultPageSize;
+    private int maxPageSize;
+    private int maxBulkOperations;
+    private int maxBatchIds;
+    private int importBatchSize;
+    private int cursorBatchSize;
+    private long asyncTimeoutMillis;
+    private long asyncStreamTimeoutMillis;
+    // Signe les jetons X-Causal-Token emis et verifie ceux recus
+    private CausalToken.Signer causalSigner;
+    // Un thread virtuel par requete (threads.virtual), null = threads du pool de Tomcat
+    private ExecutorService virtualThreads;
 
     @Override
     public void init() throws ServletException {
+        AppConfig config = AppConfig.get();
+        maxPageSize = Math.max(1, config.getInt("api.page.max", 500));
+        defaultPageSize = Math.min(maxPageSize, Math.max(1, config.getInt("api.page.default", 50)));
+        maxBulkOperations = Math.max(1, config.getInt("api.bulk.maxops", 10000));
+        maxBatchIds = Math.max(1, config.getInt("api.batch.maxids", 1000));
+        importBatchSize = Math.max(1, config.getInt("import.batch.size", 1000));
+        cursorBatchSize = Math.max(1, config.getInt("mongo.cursor.batchsize", 500));
+        asyncTimeoutMillis = config.getDuration("async.timeout", Duration.ofSeconds(5)).toMillis();
+        asyncStreamTimeoutMillis = config.getDuration("async.stream.timeout", Duration.ofSeconds(60)).toMillis();
         repository = new PosterRepository();
+        causalSigner = new CausalToken.Signer(config);
+        jsonCache = new JsonResponseCache(config);
         mapper = new ObjectMapper();
+        listing = new ListingSnapshot(config, repository::generation, out -> writeAll(out, null));
+        listing.refresh();
+        jvm = new JvmMetrics();
+        if (config.getBoolean("threads.virtual", false)) {
+            virtualThreads = newVirtualThreadExecutor();
+        }
+        // Lectures bornees sur des threads virtuels eux aussi : un pool de 16 threads plafonnerait les GET
+        readGuard = new StaleReadGuard(config, virtualThreads != null ? newVirtualThreadExecutor() : null);
         log.info("ApiServlet initialisee");
     }
 
     @Override
     public void destroy() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+        if (readGuard != null) {
+            readGuard.close();
+        }
+        if (jvm != null) {
+            jvm.close();
+        }
+        if (listing != null) {
+            listing.close();
+        }
         if (repository != null) {
             repository.close();
         }
     }
 
+    /**
+     * Mode threads virtuels (threads.virtual) : la requete passe en asynchrone et tout son traitement,
+     * bloquant, s'execute sur un thread virtuel ; le thread de Tomcat est rendu aussitot.
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (virtualThreads == null) {
+            super.service(request, response);
+            return;
+        }
+        AsyncContext context = request.startAsync();
+        context.setTimeout(0);
+        try {
+            virtualThreads.execute(() -> {
+                try {
+                    super.service(request, response);
+                } catch (ServletException | IOException | RuntimeException e) {
+                    log.log(Level.SEVERE, "Erreur lors du traitement de " + request.getRequestURI(), e);
+                    if (!response.isCommitted()) {
+                        try {
+                            response.reset();
+                            sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Erreur serveur");
+                        } catch (IOException | RuntimeException ignored) {
+                            // Client deja parti
+                        }
+                    }
+                } finally {
+                    context.complete();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Servlet en cours d'arret
+            context.complete();
+            throw new ServletException(e);
+        }
+    }
+
+    // Threads virtuels (JDK 21+) obtenus par reflexion : le code reste compilable en release 17
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.severe("threads.virtual=true exige un JDK 21 ou plus (" + Runtime.version() + ") : threads de Tomcat conserves");
+            return null;
+        }
+    }
+
     // GET
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        try {
+            get(request, response);
+        } catch (StaleReadGuard.UnavailableException e) {
+            log.log(Level.WARNING, e.getMessage(), e.getCause());
+            sendUnavailable(response);
+        } catch (MongoExecutionTimeoutException e) {
+            // Lecture causale au-dela de mongo.read.causal.maxtime : secondaire trop en retard
+            log.log(Level.WARNING, "Lecture causale trop longue", e);
+            sendUnavailable(response);
+        }
+    }
+
+    private void sendUnavailable(HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", "1");
+        sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service momentanement indisponible, reessayez plus tard.");
+    }
 
+    private void get(HttpServletRequest request, HttpServletResponse response) throws IOException {
         String path = getPath(request);
 
+        Set<String> fields;
+        try {
+            fields = parseFields(request.getParameter("fields"));
+        } catch (IllegalArgumentException e) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        CausalToken after;
+        try {
+            after = causalToken(request);
+        } catch (IllegalArgumentException e) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (after != null && causalGet(request, response, path, fields, after)) {
+            return;
+        }
+
+        // En mode threads virtuels, la requete est deja asynchrone : lecture bloquante sur son thread virtuel
+        if (repository.asyncEnabled() && !request.isAsyncStarted() && asyncGet(request, response, path, fields)) {
+            return;
+        }
+
         if (path.equals("/posters")) {
-            List<Poster> posters = repository.findAll();
-            sendJson(response, posters);
+            String limitParam = request.getParameter("limit");
+            String afterParam = request.getParameter("after");
+            String idsParam = request.getParameter("ids");
+            if (idsParam == null && limitParam == null && afterParam == null && fields == null) {
+                // L'ETag est celui de l'instantane servi, qui peut etre en retard sur la collection
+                ListingSnapshot.Snapshot snapshot = listing.current();
+                if (snapshot != null) {
+                    if (!notModified(request, response, snapshot.etag())) {
+                        sendBytes(response, snapshot.body());
+                    }
+                    return;
+                }
+                // Liste au-dela de listing.snapshot.maxbytes : toujours ecrite en flux, jamais gardee en entier
+                if (readGuard.enabled() && !listing.tooLarge() && sendGuardedListing(request, response)) {
+                    return;
+                }
+            }
+            // Le corps n'est connu qu'apres lecture : pas de 304 avant (voir sendRead)
+            long generation = repository.generation();
+            if (idsParam != null) {
+                PosterBatch batch = findBatch(response, List.of(idsParam.split(",")), fields, null);
+                if (batch != null) {
+                    if (!batch.missing().isEmpty()) {
+                        response.setHeader(MISSING_IDS_HEADER, String.join(",", batch.missing()));
+                    }
+                    sendJson(response, batch.posters());
+                }
+                return;
+            }
+            if (limitParam == null && afterParam == null) {
+                streamAll(response, fields, null);
+                return;
+            }
+            sendPage(request, response, limitParam, afterParam, fields, generation);
             return;
         }
 
         if (path.startsWith("/posters/")) {
             String id = path.substring("/posters/".length());
-            Poster poster = repository.findById(id);
-            if (poster == null) {
+            if (!repository.mightExist(id)) {
+                // Id absent du filtre des ids existants : 404 sans requete ni passage par le pool de lecture
+                sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+                return;
+            }
+            StaleReadGuard.Read read;
+            if (fields == null) {
+                JsonResponseCache.Encoded cached = jsonCache.peekPoster(id);
+                read = cached != null
+                        ? new StaleReadGuard.Read(cached, false, 0)
+                        : readGuard.read("poster:" + id, () -> loadPoster(id));
+            } else {
+                read = readGuard.read("poster:" + id + "|" + fieldsKey(fields), () -> encodePoster(id, fields));
+            }
+            if (read.value() == null) {
                 sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
                 return;
             }
-            sendJson(response, poster);
+            sendRead(request, response, read);
+            return;
+        }
+
+        if (path.equals("/_stats")) {
+            Map<String, Object> stats = new LinkedHashMap<>(repository.stats());
+            stats.put("jsonCache", jsonCache.stats());
+            stats.put("listing", listing.stats());
+            stats.put("resilience", readGuard.stats());
+            stats.put("jvm", jvm.stats());
+            sendJson(response, stats);
+            return;
+        }
+
+        if (path.equals("/_indexes")) {
+            Map<String, Object> indexes = repository.indexes();
+            if (indexes == null) {
+                sendError(response, HttpServletResponse.SC_NOT_FOUND, "Le moteur de stockage ne declare pas d'index.");
+                return;
+            }
+            sendJson(response, indexes);
             return;
         }
 
         sendError(response, HttpServletResponse.SC_NOT_FOUND, "Route introuvable : " + path);
     }
 
+    /**
+     * GET en mode asynchrone (async.enabled) : liste et poster par id sont lus par le driver non bloquant et
+     * ecrits par un WriteListener, sans retenir de thread de Tomcat ; au-dela de async.timeout, 504.
+     * @return false pour les routes qui restent synchrones (?ids=, id absent du filtre, _stats, _indexes)
+     */
+    private boolean asyncGet(HttpServletRequest request, HttpServletResponse response, String path, Set<String> fields)
+            throws IOException {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (path.equals("/posters")) {
+            String limitParam = request.getParameter("limit");
+            String afterParam = request.getParameter("after");
+            if (request.getParameter("ids") != null) {
+                return false;
+            }
+            if (limitParam == null && afterParam == null) {
+                if (fields == null) {
+                    ListingSnapshot.Snapshot snapshot = listing.current();
+                    if (snapshot != null) {
+                        respond(AsyncExchange.start(request, response, mapper, asyncStreamTimeoutMillis), ifNoneMatch,
+                                new JsonResponseCache.Encoded(snapshot.body(), snapshot.etag(), null, snapshot.generation()));
+                        return true;
+                    }
+                }
+                AsyncExchange exchange = AsyncExchange.start(request, response, mapper, asyncStreamTimeoutMillis);
+                JsonStreamWriter.stream(exchange, mapper.getFactory(), repository.findAllAsync(fields), fields, cursorBatchSize);
+                return true;
+            }
+
+            PageRequest page = parsePage(response, limitParam, afterParam, fields);
+            if (page == null) {
+                return true;
+            }
+            long generation = repository.generation();
+            AsyncExchange exchange = AsyncExchange.start(request, response, mapper, asyncTimeoutMillis);
+            JsonResponseCache.Encoded cached = jsonCache.peekPage(page.key(), generation);
+            if (cached != null) {
+                respond(exchange, ifNoneMatch, cached);
+                return true;
+            }
+            repository.findPageAsync(page.afterId(), page.limit() + 1, fields).whenComplete((docs, error) -> {
+                if (error != null) {
+                    exchange.fail(error);
+                    return;
+                }
+                try {
+                    JsonResponseCache.Encoded encoded = encodePage(docs, page.limit(), fields, generation);
+                    jsonCache.putPage(page.key(), encoded);
+                    respond(exchange, ifNoneMatch, encoded);
+                } catch (RuntimeException e) {
+                    exchange.fail(e);
+                }
+            });
+            return true;
+        }
+
+        if (path.startsWith("/posters/")) {
+            String id = path.substring("/posters/".length());
+            if (!repository.mightExist(id)) {
+                return false;
+            }
+            AsyncExchange exchange = AsyncExchange.start(request, response, mapper, asyncTimeoutMillis);
+            JsonResponseCache.Encoded cached = fields == null ? jsonCache.peekPoster(id) : null;
+            if (cached != null) {
+                respond(exchange, ifNoneMatch, cached);
+                return true;
+            }
+            long generation = repository.generation();
+            repository.findByIdAsync(id, fields).whenComplete((poster, error) -> {
+                if (error != null) {
+                    exchange.fail(error);
+                    return;
+                }
+                if (poster == null) {
+                    exchange.sendError(HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+                    return;
+                }
+                try {
+                    JsonResponseCache.Encoded encoded = encode(poster, fields);
+                    if (fields == null) {
+                        jsonCache.offerPoster(id, encoded, generation, repository::generation);
+                    }
+                    respond(exchange, ifNoneMatch, encoded);
+                } catch (RuntimeException e) {
+                    exchange.fail(e);
+                }
+            });
+            return true;
+        }
+        return false;
+    }
+
+    // Reponse asynchrone d'un corps encode : 304 si If-None-Match correspond a son ETag
+    private void respond(AsyncExchange exchange, String ifNoneMatch, JsonResponseCache.Encoded encoded) {
+        if (encoded.etag() != null && etagMatches(ifNoneMatch, encoded.etag())) {
+            exchange.send(HttpServletResponse.SC_NOT_MODIFIED, null, r -> r.setHeader("ETag", encoded.etag()));
+            return;
+        }
+        exchange.send(HttpServletResponse.SC_OK, encoded.body(), r -> {
+            if (encoded.etag() != null) {
+                r.setHeader("ETag", encoded.etag());
+            }
+            if (encoded.nextCursor() != null) {
+                r.setHeader(NEXT_CURSOR_HEADER, encoded.nextCursor());
+            }
+        });
+    }
+
     // POST
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
@@ -84,6 +468,41 @@ public class ApiServlet extends HttpServlet {
 
         String path = getPath(request);
 
+        if (path.equals("/posters/_bulk")) {
+            handleBulk(request, response);
+            return;
+        }
+
+        if (path.equals("/posters/_mget")) {
+            Set<String> fields;
+            CausalToken after;
+            try {
+                fields = parseFields(request.getParameter("fields"));
+                after = causalToken(request);
+            } catch (IllegalArgumentException e) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+                return;
+            }
+            IdsRequest body = mapper.readValue(request.getInputStream(), IdsRequest.class);
+            PosterBatch batch;
+            try {
+                batch = findBatch(response, body.ids() != null ? body.ids() : List.of(), fields, after);
+            } catch (MongoExecutionTimeoutException e) {
+                log.log(Level.WARNING, "Lecture causale trop longue", e);
+                sendUnavailable(response);
+                return;
+            }
+            if (batch != null) {
+                sendJson(response, batch);
+            }
+            return;
+        }
+
+        if (path.equals("/posters/_import")) {
+            handleImport(request, response);
+            return;
+        }
+
         if (!path.equals("/posters")) {
             sendError(response, HttpServletResponse.SC_NOT_FOUND, "Route introuvable : " + path);
             return;
@@ -98,16 +517,201 @@ public class ApiServlet extends HttpServlet {
             return;
         }
 
-        if (repository.exists(poster.getId())) {
+        if (!repository.save(poster)) {
             sendError(response, HttpServletResponse.SC_CONFLICT, "Un poster avec l'id '" + poster.getId() + "' existe deja.");
             return;
         }
+        invalidatePoster(poster.getId());
+        setCausalToken(response);
 
-        repository.save(poster);
         response.setStatus(HttpServletResponse.SC_CREATED);
+        response.setHeader("ETag", etag(poster));
         sendJson(response, poster);
     }
 
+    // POST /posters/_bulk : les operations invalides sont rejetees une a une (400), les autres
+    // sont transmises au repository, qui les execute par tranches non ordonnees.
+    private void handleBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        List<BulkOperation> operations = mapper.readValue(request.getInputStream(), new TypeReference<List<BulkOperation>>() {});
+        if (operations == null || operations.isEmpty()) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Le lot d'operations est vide.");
+            return;
+        }
+        if (operations.size() > maxBulkOperations) {
+            sendError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Un lot est limite a " + maxBulkOperations + " operations.");
+            return;
+        }
+
+        BulkItemResult[] results = new BulkItemResult[operations.size()];
+        List<BulkOperation> valid = new ArrayList<>(operations.size());
+        List<Integer> validIndexes = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            BulkOperation op = operations.get(i);
+            String problem = validateBulkOperation(op);
+            if (problem != null) {
+                results[i] = new BulkItemResult(i, op != null ? op.op() : null, op != null ? op.id() : null,
+                        HttpServletResponse.SC_BAD_REQUEST, problem);
+            } else {
+                valid.add(op);
+                validIndexes.add(i);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            List<String> touched = new ArrayList<>(valid.size());
+            for (BulkOperation op : valid) {
+                touched.add(op.id());
+            }
+            List<BulkItemResult> written = repository.bulkWrite(valid);
+            invalidatePosters(touched);
+            setCausalToken(response);
+            for (BulkItemResult r : written) {
+                int index = validIndexes.get(r.index());
+                results[index] = new BulkItemResult(index, r.op(), r.id(), r.status(), r.message());
+            }
+        }
+
+        int failed = 0;
+        for (BulkItemResult r : results) {
+            if (r.status() >= 400) {
+                failed++;
+            }
+        }
+        sendJson(response, new BulkResponse(results.length - failed, failed, List.of(results)));
+    }
+
+    private String validateBulkOperation(BulkOperation op) {
+        if (op == null || op.op() == null) {
+            return "Le champ op est obligatoire (create, update ou delete).";
+        }
+        if (op.id() == null || op.id().isBlank()) {
+            return "Le champ id est obligatoire.";
+        }
+        switch (op.op()) {
+            case "create":
+                if (op.url() == null || op.url().isBlank() || op.titre() == null || op.titre().isBlank()) {
+                    return "Les champs id, url et titre sont obligatoires.";
+                }
+                return null;
+            case "update":
+                if ((op.url() == null || op.url().isBlank()) && (op.titre() == null || op.titre().isBlank())) {
+                    return "Un update doit modifier url et/ou titre.";
+                }
+                return null;
+            case "delete":
+                return null;
+            default:
+                return "Operation inconnue : " + op.op();
+        }
+    }
+
+    /**
+     * Resolution groupee (GET ?ids= et POST _mget) : une seule requete $in, ordre de la demande conserve,
+     * doublons retires.
+     * @return null si la demande est invalide (erreur deja envoyee)
+     */
+    private PosterBatch findBatch(HttpServletResponse response, List<String> rawIds, Set<String> fields, CausalToken after)
+            throws IOException {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String raw : rawIds) {
+            if (raw != null && !raw.isBlank()) {
+                ids.add(raw.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Au moins un id est obligatoire.");
+            return null;
+        }
+        if (ids.size() > maxBatchIds) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Au plus " + maxBatchIds + " ids par requete.");
+            return null;
+        }
+
+        Map<String, Poster> found = repository.findByIds(ids, fields, after);
+        List<Poster> posters = new ArrayList<>(found.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            Poster poster = found.get(id);
+            if (poster != null) {
+                posters.add(view(poster, fields));
+            } else {
+                missing.add(id);
+            }
+        }
+        return new PosterBatch(posters, missing);
+    }
+
+    /*
+     * POST /posters/_import : le corps est lu poster par poster (JsonParser incremental) et ecrit par lots
+     * de import.batch.size. La lecture s'arrete pendant l'ecriture d'un lot : le client est freine par TCP
+     * au rythme de MongoDB et la memoire reste bornee a un lot. Une ligne de progression est envoyee
+     * apres chaque lot, puis le bilan final.
+     */
+    private void handleImport(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String contentType = request.getContentType();
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("application/x-ndjson")) {
+            sendError(response, HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, "Content-Type attendu : application/x-ndjson");
+            return;
+        }
+
+        response.setContentType("application/x-ndjson;charset=UTF-8");
+        long read = 0, inserted = 0, duplicates = 0, invalid = 0;
+        List<Poster> batch = new ArrayList<>(importBatchSize);
+        try (JsonGenerator out = mapper.getFactory().createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+             MappingIterator<Poster> posters = mapper.readerFor(Poster.class).readValues(request.getInputStream())) {
+            out.setRootValueSeparator(null);
+            try {
+                while (posters.hasNextValue()) {
+                    Poster poster = posters.nextValue();
+                    read++;
+                    if (poster.getId() == null || poster.getId().isBlank()
+                            || poster.getUrl() == null || poster.getUrl().isBlank()
+                            || poster.getTitre() == null || poster.getTitre().isBlank()) {
+                        invalid++;
+                        continue;
+                    }
+                    batch.add(poster);
+                    if (batch.size() == importBatchSize) {
+                        int count = importBatch(response, batch);
+                        inserted += count;
+                        duplicates += batch.size() - count;
+                        batch.clear();
+                        writeLine(out, new ImportProgress(false, read, inserted, duplicates, invalid, null, null));
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    int count = importBatch(response, batch);
+                    inserted += count;
+                    duplicates += batch.size() - count;
+                }
+                writeLine(out, new ImportProgress(true, read, inserted, duplicates, invalid, null, encodedCausalToken()));
+            } catch (JsonProcessingException e) {
+                // Ligne illisible : les lots deja ecrits restent en base, le bilan indique ou l'import s'est arrete
+                writeLine(out, new ImportProgress(true, read, inserted, duplicates, invalid,
+                        "JSON invalide apres " + read + " lignes : " + e.getOriginalMessage(), encodedCausalToken()));
+            }
+        }
+    }
+
+    // Meme suite que _bulk : caches des posters du lot oublies, jeton causal (ignore une fois la reponse commencee)
+    private int importBatch(HttpServletResponse response, List<Poster> batch) {
+        int count = repository.insertMany(batch);
+        List<String> ids = new ArrayList<>(batch.size());
+        for (Poster poster : batch) {
+            ids.add(poster.getId());
+        }
+        invalidatePosters(ids);
+        setCausalToken(response);
+        return count;
+    }
+
+    private void writeLine(JsonGenerator out, Object value) throws IOException {
+        out.writeObject(value);
+        out.writeRaw('\n');
+        out.flush();
+    }
+
     // PUT
     @Override
     protected void doPut(HttpServletRequest request, HttpServletResponse response)
@@ -123,14 +727,21 @@ public class ApiServlet extends HttpServlet {
         String id = path.substring("/posters/".length());
         Poster patch = mapper.readValue(request.getInputStream(), Poster.class);
 
-        if (!repository.exists(id)) {
-            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+        Poster updated;
+        try {
+            updated = repository.update(id, patch, expectedVersions(request));
+        } catch (VersionConflictException e) {
+            invalidatePoster(id);
+            sendError(response, HttpServletResponse.SC_PRECONDITION_FAILED, "Le poster '" + id + "' a ete modifie entre-temps.");
             return;
         }
-
-        repository.update(id, patch);
-
-        Poster updated = repository.findById(id);
+        invalidatePoster(id);
+        if (updated == null) {
+            sendMissing(request, response, id);
+            return;
+        }
+        setCausalToken(response);
+        response.setHeader("ETag", etag(updated));
         sendJson(response, updated);
     }
 
@@ -147,15 +758,411 @@ public class ApiServlet extends HttpServlet {
         }
 
         String id = path.substring("/posters/".length());
-        boolean deleted = repository.delete(id);
+        boolean deleted;
+        try {
+            deleted = repository.delete(id, expectedVersions(request));
+        } catch (VersionConflictException e) {
+            invalidatePoster(id);
+            sendError(response, HttpServletResponse.SC_PRECONDITION_FAILED, "Le poster '" + id + "' a ete modifie entre-temps.");
+            return;
+        }
 
         if (!deleted) {
-            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+            sendMissing(request, response, id);
             return;
         }
+        invalidatePoster(id);
+        setCausalToken(response);
         response.setStatus(HttpServletResponse.SC_NO_CONTENT);
     }
 
+    // Liste complete : chaque document est ecrit des sa lecture, la memoire reste constante
+    private void streamAll(HttpServletResponse response, Set<String> fields, CausalToken after) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        writeAll(response.getOutputStream(), fields, after);
+    }
+
+    private void writeAll(OutputStream out, Set<String> fields) throws IOException {
+        writeAll(out, fields, null);
+    }
+
+    private void writeAll(OutputStream out, Set<String> fields, CausalToken after) throws IOException {
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            repository.forEach(fields, doc -> BsonJsonTranscoder.write(doc, gen, fields), after);
+            gen.writeEndArray();
+        }
+    }
+
+    // Lectures causales
+    /** Jeton X-Causal-Token de la requete, ou null (absent, ou lectures toutes sur le primaire). */
+    private CausalToken causalToken(HttpServletRequest request) {
+        String header = request.getHeader(CAUSAL_TOKEN_HEADER);
+        if (header == null || header.isBlank() || !repository.causalReads()) {
+            return null;
+        }
+        return causalSigner.parse(header);
+    }
+
+    // Apres une ecriture : jeton a renvoyer dans X-Causal-Token pour relire cette ecriture sur un secondaire
+    private void setCausalToken(HttpServletResponse response) {
+        String token = encodedCausalToken();
+        if (token != null) {
+            response.setHeader(CAUSAL_TOKEN_HEADER, token);
+        }
+    }
+
+    // Jeton de la derniere ecriture de cette instance, signe ; null sans lectures causales
+    private String encodedCausalToken() {
+        CausalToken token = repository.causalToken();
+        return token != null ? causalSigner.encode(token) : null;
+    }
+
+    /**
+     * GET avec X-Causal-Token : lu directement dans MongoDB par une lecture causale, sans caches, instantane
+     * ni filtre des ids, qui peuvent ignorer une ecriture faite par une autre instance.
+     * @return false pour les routes sans lecture de posters (_stats, _indexes)
+     */
+    private boolean causalGet(HttpServletRequest request, HttpServletResponse response, String path, Set<String> fields,
+                              CausalToken after) throws IOException {
+        if (path.equals("/posters")) {
+            // Comme hors lecture causale : ETag de contenu pour une page, aucun pour une liste en flux ou par ids
+            String idsParam = request.getParameter("ids");
+            String limitParam = request.getParameter("limit");
+            String afterParam = request.getParameter("after");
+            if (idsParam != null) {
+                PosterBatch batch = findBatch(response, List.of(idsParam.split(",")), fields, after);
+                if (batch != null) {
+                    if (!batch.missing().isEmpty()) {
+                        response.setHeader(MISSING_IDS_HEADER, String.join(",", batch.missing()));
+                    }
+                    sendJson(response, batch.posters());
+                }
+            } else if (limitParam == null && afterParam == null) {
+                streamAll(response, fields, after);
+            } else {
+                PageRequest page = parsePage(response, limitParam, afterParam, fields);
+                if (page != null) {
+                    JsonResponseCache.Encoded encoded = encodePage(
+                            repository.findPage(page.afterId(), page.limit() + 1, fields, after), page.limit(), fields, 0);
+                    sendRead(request, response, new StaleReadGuard.Read(encoded, false, 0));
+                }
+            }
+            return true;
+        }
+        if (path.startsWith("/posters/")) {
+            String id = path.substring("/posters/".length());
+            JsonResponseCache.Encoded encoded = encode(repository.findById(id, fields, after), fields);
+            if (encoded == null) {
+                sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+                return true;
+            }
+            sendRead(request, response, new StaleReadGuard.Read(encoded, false, 0));
+            return true;
+        }
+        return false;
+    }
+
+    // Projection
+    /**
+     * Champs demandes par ?fields=id,titre, ou null pour tous.
+     * @throws IllegalArgumentException si un champ est inconnu ou si la liste est vide
+     */
+    private Set<String> parseFields(String param) {
+        if (param == null) {
+            return null;
+        }
+        Set<String> fields = new HashSet<>();
+        for (String raw : param.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!POSTER_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Champ inconnu dans fields : " + field + " (id, url, titre)");
+            }
+            fields.add(field);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Le parametre fields ne peut pas etre vide.");
+        }
+        return fields.size() == POSTER_FIELDS.size() ? null : fields;
+    }
+
+    // Copie restreinte aux champs demandes : les champs null ne sont pas serialises
+    private Poster view(Poster poster, Set<String> fields) {
+        if (fields == null) {
+            return poster;
+        }
+        Poster view = new Poster(
+                fields.contains("id") ? poster.getId() : null,
+                fields.contains("url") ? poster.getUrl() : null,
+                fields.contains("titre") ? poster.getTitre() : null);
+        view.setVersion(poster.getVersion());
+        return view;
+    }
+
+    // Requetes conditionnelles
+    private String etag(Poster poster) {
+        return "\"" + poster.getVersion() + "\"";
+    }
+
+    /**
+     * Pose l'ETag et, si If-None-Match le contient deja, repond 304 sans serialiser le corps.
+     * @return true si la reponse est terminee
+     */
+    private boolean notModified(HttpServletRequest request, HttpServletResponse response, String etag) {
+        response.setHeader("ETag", etag);
+        if (!etagMatches(request.getHeader("If-None-Match"), etag)) {
+            return false;
+        }
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        return true;
+    }
+
+    // Apres une ecriture : reponses encodees et dernieres valeurs connues (StaleReadGuard) de ces posters oubliees
+    private void invalidatePoster(String id) {
+        jsonCache.invalidatePoster(id);
+        readGuard.invalidate("poster:" + id);
+    }
+
+    private void invalidatePosters(List<String> ids) {
+        jsonCache.invalidatePosters(ids);
+        for (String id : ids) {
+            readGuard.invalidate("poster:" + id);
+        }
+    }
+
+    /**
+     * Poster absent apres PUT ou DELETE : 404, ou 412 si If-Match est present (RFC 9110, 13.1.1 : meme "*"
+     * ne correspond a rien quand la ressource n'existe pas). Avec des versions, le depot a deja leve
+     * VersionConflictException ; reste le cas de "*".
+     */
+    private void sendMissing(HttpServletRequest request, HttpServletResponse response, String id) throws IOException {
+        String ifMatch = request.getHeader("If-Match");
+        if (ifMatch != null && !ifMatch.isBlank()) {
+            sendError(response, HttpServletResponse.SC_PRECONDITION_FAILED, "Poster introuvable : " + id);
+            return;
+        }
+        sendError(response, HttpServletResponse.SC_NOT_FOUND, "Poster introuvable : " + id);
+    }
+
+    /**
+     * Versions acceptees par If-Match, ou null si l'en-tete est absent ou vaut "*" (toute version d'un
+     * poster existant, voir sendMissing).
+     * Les ETags faibles ou etrangers ne peuvent correspondre a aucune version (liste vide -> 412).
+     */
+    private List<Long> expectedVersions(HttpServletRequest request) {
+        String header = request.getHeader("If-Match");
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return null;
+            }
+            if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(value.substring(1, value.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // ETag de liste ou inconnu : ignore
+                }
+            }
+        }
+        return versions;
+    }
+
+    private boolean etagMatches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Pagination
+    // Page demandee (limit plafonne, curseur decode) et sa cle de cache
+    private record PageRequest(int limit, String afterId, String key) {}
+
+    /** Parametres de pagination valides, ou null apres une reponse 400. */
+    private PageRequest parsePage(HttpServletResponse response, String limitParam, String afterParam, Set<String> fields)
+            throws IOException {
+        int limit = defaultPageSize;
+        if (limitParam != null) {
+            try {
+                limit = Integer.parseInt(limitParam.trim());
+            } catch (NumberFormatException e) {
+                limit = 0;
+            }
+            if (limit < 1) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Le parametre limit doit etre un entier positif.");
+                return null;
+            }
+            limit = Math.min(limit, maxPageSize);
+        }
+
+        String afterId = null;
+        if (afterParam != null) {
+            afterId = decodeCursor(afterParam);
+            if (afterId == null) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Curseur invalide : " + afterParam);
+                return null;
+            }
+        }
+        return new PageRequest(limit, afterId, limit + "|" + (afterId != null ? afterId : "") + "|" + fieldsKey(fields));
+    }
+
+    private void sendPage(HttpServletRequest request, HttpServletResponse response, String limitParam, String afterParam, Set<String> fields,
+                          long generation) throws IOException {
+        PageRequest page = parsePage(response, limitParam, afterParam, fields);
+        if (page == null) {
+            return;
+        }
+        JsonResponseCache.Encoded cached = jsonCache.peekPage(page.key(), generation);
+        StaleReadGuard.Read read = cached != null
+                ? new StaleReadGuard.Read(cached, false, 0)
+                : readGuard.read("page:" + page.key(), () -> {
+                    // Un element de plus que demande : sa presence indique qu'une page suivante existe
+                    JsonResponseCache.Encoded encoded = encodePage(
+                            repository.findPage(page.afterId(), page.limit() + 1, fields), page.limit(), fields, generation);
+                    jsonCache.putPage(page.key(), encoded);
+                    return encoded;
+                });
+        sendRead(request, response, read);
+    }
+
+    /*
+     * Liste complete encodee via StaleReadGuard (dans la borne listing.snapshot.maxbytes) ; a defaut, le
+     * dernier instantane de liste, meme trop ancien. Retourne false si la liste depasse la borne : a ecrire
+     * en flux par l'appelant.
+     */
+    private boolean sendGuardedListing(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long generation = repository.generation();
+        StaleReadGuard.Read read;
+        try {
+            read = readGuard.read("list", () -> encodeAll(generation));
+        } catch (StaleReadGuard.UnavailableException e) {
+            ListingSnapshot.Snapshot last = listing.last();
+            if (last == null) {
+                throw e;
+            }
+            long age = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - last.startedAtNanos());
+            read = new StaleReadGuard.Read(new JsonResponseCache.Encoded(last.body(), last.etag(), null, last.generation()),
+                    true, age);
+        }
+        if (read.value() == null) {
+            return false;
+        }
+        sendRead(request, response, read);
+        return true;
+    }
+
+    /** Reponse encodee, avec Age et Warning: 110 si elle est perimee. */
+    private void sendRead(HttpServletRequest request, HttpServletResponse response, StaleReadGuard.Read read)
+            throws IOException {
+        JsonResponseCache.Encoded encoded = read.value();
+        if (read.stale()) {
+            response.setHeader("Age", Long.toString(read.ageSeconds()));
+            response.setHeader("Warning", "110 - \"Response is Stale\"");
+        }
+        if (encoded.etag() != null && notModified(request, response, encoded.etag())) {
+            return;
+        }
+        if (encoded.nextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, encoded.nextCursor());
+        }
+        sendBytes(response, encoded.body());
+    }
+
+    // null si la liste depasse listing.snapshot.maxbytes
+    private JsonResponseCache.Encoded encodeAll(long generation) {
+        byte[] body;
+        try {
+            body = listing.encode();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return body != null ? new JsonResponseCache.Encoded(body, JsonResponseCache.contentEtag(body, null), null, generation) : null;
+    }
+
+    // Page encodee a partir de limit + 1 documents au plus ; generation est lue avant la requete
+    private JsonResponseCache.Encoded encodePage(List<RawBsonDocument> docs, int limit, Set<String> fields, long generation) {
+        String nextCursor = null;
+        if (docs.size() > limit) {
+            docs = docs.subList(0, limit);
+            nextCursor = encodeCursor(BsonJsonTranscoder.id(docs.get(limit - 1)));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + docs.size() * 192);
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.writeStartArray();
+            for (RawBsonDocument doc : docs) {
+                BsonJsonTranscoder.write(doc, gen, fields);
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] body = out.toByteArray();
+        return new JsonResponseCache.Encoded(body, JsonResponseCache.contentEtag(body, nextCursor), nextCursor, generation);
+    }
+
+    // Poster complet lu puis propose au cache JSON (voir JsonResponseCache.offerPoster)
+    private JsonResponseCache.Encoded loadPoster(String id) {
+        long generation = repository.generation();
+        JsonResponseCache.Encoded encoded = encode(repository.findById(id), null);
+        if (encoded != null) {
+            jsonCache.offerPoster(id, encoded, generation, repository::generation);
+        }
+        return encoded;
+    }
+
+    private JsonResponseCache.Encoded encodePoster(String id, Set<String> fields) {
+        return encode(repository.findById(id, fields), fields);
+    }
+
+    private JsonResponseCache.Encoded encode(Poster poster, Set<String> fields) {
+        if (poster == null) {
+            return null;
+        }
+        try {
+            Object body = fields == null ? poster : view(poster, fields);
+            return new JsonResponseCache.Encoded(mapper.writeValueAsBytes(body), etag(poster), null, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Cle stable d'un ensemble de champs (ordre indifferent), "*" pour tous
+    private String fieldsKey(Set<String> fields) {
+        return fields != null ? String.join(",", new TreeSet<>(fields)) : "*";
+    }
+
+    private String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        try {
+            String id = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            return id.isEmpty() ? null : id;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // Helpers
     private String getPath(HttpServletRequest request) {
         String info = request.getPathInfo();
@@ -163,6 +1170,12 @@ public class ApiServlet extends HttpServlet {
         return info.length() > 1 && info.endsWith("/") ? info.substring(0, info.length() - 1) : info;
     }
 
+    private void sendBytes(HttpServletResponse response, byte[] body) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
     private void sendJson(HttpServletResponse response, Object body) throws IOException {
         response.setContentType("application/json;charset=UTF-8");
         mapper.writeValue(response.getWriter(), body);
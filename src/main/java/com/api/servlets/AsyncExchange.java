@@ -0,0 +1,181 @@
+package com.api.servlets;
+
+import com.api.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Requete traitee en mode asynchrone (request.startAsync()) : la reponse est ecrite plus tard, depuis un
+ * thread du driver MongoDB, par un WriteListener non bloquant.
+ *
+ * Une seule issue par requete : reponse, erreur ou expiration du delai (AsyncContext), la premiere arrivee
+ * l'emporte, les suivantes sont ignorees.
+ */
+final class AsyncExchange implements AsyncListener {
+
+    private static final Logger log = Logger.getLogger(AsyncExchange.class.getName());
+    private static final String JSON = "application/json;charset=UTF-8";
+
+    private final AsyncContext context;
+    private final HttpServletResponse response;
+    private final ObjectMapper mapper;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    // Appele si le delai expire pendant un flux deja commence (annulation de la lecture)
+    private volatile Runnable onAbort;
+
+    private AsyncExchange(AsyncContext context, HttpServletResponse response, ObjectMapper mapper) {
+        this.context = context;
+        this.response = response;
+        this.mapper = mapper;
+    }
+
+    static AsyncExchange start(HttpServletRequest request, HttpServletResponse response, ObjectMapper mapper,
+                               long timeoutMillis) {
+        AsyncContext context = request.startAsync(request, response);
+        context.setTimeout(timeoutMillis);
+        AsyncExchange exchange = new AsyncExchange(context, response, mapper);
+        context.addListener(exchange);
+        return exchange;
+    }
+
+    /** Ecrit status, en-tetes (headers) et corps (null = vide) sans bloquer, puis termine la requete. */
+    void send(int status, byte[] body, Consumer<HttpServletResponse> headers) {
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            response.setStatus(status);
+            if (headers != null) {
+                headers.accept(response);
+            }
+            if (body == null) {
+                context.complete();
+                return;
+            }
+            response.setContentType(JSON);
+            response.setContentLength(body.length);
+            response.getOutputStream().setWriteListener(new BodyWriter(body));
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Echec de l'ecriture asynchrone", e);
+            context.complete();
+        }
+    }
+
+    void sendError(int status, String message) {
+        send(status, errorBody(status, message), null);
+    }
+
+    /**
+     * Reserve la reponse pour un flux (voir JsonStreamWriter) ; onAbort est appele si le delai expire.
+     * @return false si la reponse a deja ete ecrite (delai expire entre-temps)
+     */
+    boolean claimStream(Runnable onAbort) {
+        if (!claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        this.onAbort = onAbort;
+        return true;
+    }
+
+    /** Echec d'une lecture : 500, sauf si une reponse est deja partie. */
+    void fail(Throwable error) {
+        log.log(Level.WARNING, "Echec d'une lecture asynchrone", error);
+        sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Erreur serveur");
+    }
+
+    AsyncContext context() {
+        return context;
+    }
+
+    HttpServletResponse response() {
+        return response;
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {
+        if (claimed.compareAndSet(false, true)) {
+            // Pas encore de WriteListener : ecriture directe, le corps tient dans le tampon de la reponse
+            byte[] body = errorBody(HttpServletResponse.SC_GATEWAY_TIMEOUT, "MongoDB n'a pas repondu dans le delai imparti.");
+            response.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+            response.setContentType(JSON);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        } else {
+            Runnable abort = onAbort;
+            if (abort != null) {
+                abort.run();
+            }
+        }
+        context.complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        Runnable abort = onAbort;
+        if (abort != null) {
+            abort.run();
+        }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private byte[] errorBody(int status, String message) {
+        try {
+            return mapper.writeValueAsBytes(new ErrorResponse(status, message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Corps entier ecrit des que le flux est pret, requete terminee une fois l'ecriture videe
+    private final class BodyWriter implements WriteListener {
+
+        private final byte[] body;
+        private boolean written;
+
+        BodyWriter(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            ServletOutputStream out = response.getOutputStream();
+            if (!written) {
+                if (!out.isReady()) {
+                    return;
+                }
+                out.write(body);
+                written = true;
+            }
+            if (out.isReady()) {
+                context.complete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.log(Level.FINE, "Client deconnecte pendant l'ecriture", t);
+            context.complete();
+        }
+    }
+}
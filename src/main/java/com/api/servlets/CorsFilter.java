@@ -19,7 +19,7 @@ import java.io.IOException;
  * Quand la gateway sera en place, remplacer "*" par son URL,
  * par exemple : "http://gateway:8080"
  */
-@WebFilter("/api/*")
+@WebFilter(urlPatterns = "/api/*", asyncSupported = true)
 public class CorsFilter implements Filter {
 
     @Override
@@ -37,7 +37,8 @@ public class CorsFilter implements Filter {
             // Seule la gateway est autorisée à appeler cette API directement
             response.setHeader("Access-Control-Allow-Origin",  "http://localhost:8081");
             response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-            response.setHeader("Access-Control-Allow-Headers", "Content-Type, Authorization");
+            response.setHeader("Access-Control-Allow-Headers", "Content-Type, Authorization, If-None-Match, If-Match, X-Causal-Token");
+            response.setHeader("Access-Control-Expose-Headers", "X-Next-Cursor, X-Missing-Ids, ETag, Age, Warning, Retry-After, X-Causal-Token");
         }
 
         // Requête preflight OPTIONS : on répond directement sans passer au servlet
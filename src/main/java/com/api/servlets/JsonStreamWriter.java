@@ -0,0 +1,210 @@
+package com.api.servlets;
+
+import com.api.repositories.BsonJsonTranscoder;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.bson.RawBsonDocument;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Liste de posters ecrite en flux JSON sans bloquer : les documents arrivent du driver Reactive Streams et
+ * sont transcodes dans un tampon, vide dans la reponse des qu'elle accepte des octets (WriteListener).
+ *
+ * Un lot n'est demande a MongoDB (request) que lorsque le tampon est vide et que la reponse est prete :
+ * un client lent ralentit la lecture au lieu de faire grossir la memoire. Callbacks du driver et du
+ * conteneur sont serialises par un verrou (pas de synchronized : voir les threads virtuels).
+ */
+final class JsonStreamWriter implements Subscriber<RawBsonDocument> {
+
+    private static final Logger log = Logger.getLogger(JsonStreamWriter.class.getName());
+
+    private final AsyncExchange exchange;
+    private final ServletOutputStream out;
+    private final Set<String> fields;
+    private final int batchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream(8192);
+    private final JsonGenerator gen;
+
+    private Subscription subscription;
+    private long outstanding;
+    private boolean upstreamDone;
+    private boolean finished;
+    private boolean draining;
+
+    private JsonStreamWriter(AsyncExchange exchange, JsonFactory factory, Set<String> fields, int batchSize) throws IOException {
+        this.exchange = exchange;
+        this.out = exchange.response().getOutputStream();
+        this.fields = fields;
+        this.batchSize = batchSize;
+        this.gen = factory.createGenerator(pending, JsonEncoding.UTF8);
+        gen.writeStartArray();
+    }
+
+    /** Ecrit documents en flux dans la reponse de exchange. */
+    static void stream(AsyncExchange exchange, JsonFactory factory, Publisher<RawBsonDocument> documents,
+                       Set<String> fields, int batchSize) {
+        JsonStreamWriter writer;
+        try {
+            writer = new JsonStreamWriter(exchange, factory, fields, batchSize);
+        } catch (IOException | RuntimeException e) {
+            exchange.fail(e);
+            return;
+        }
+        if (!exchange.claimStream(writer::abort)) {
+            return;
+        }
+        exchange.response().setContentType("application/json;charset=UTF-8");
+        writer.out.setWriteListener(writer.new Output());
+        documents.subscribe(writer);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        lock.lock();
+        try {
+            subscription = s;
+            if (finished) {
+                s.cancel();
+                return;
+            }
+            drain();
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Echec de l'ecriture du flux de posters", e);
+            abort();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onNext(RawBsonDocument doc) {
+        lock.lock();
+        try {
+            if (finished) {
+                return;
+            }
+            outstanding--;
+            BsonJsonTranscoder.write(doc, gen, fields);
+            gen.flush();
+            drain();
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Echec de l'ecriture du flux de posters", e);
+            abort();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        // Le statut 200 et une partie du tableau sont peut-etre deja partis : la reponse est tronquee
+        log.log(Level.WARNING, "Echec de la lecture MongoDB pendant le flux de posters", t);
+        lock.lock();
+        try {
+            subscription = null;
+            abort();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        lock.lock();
+        try {
+            if (finished) {
+                return;
+            }
+            gen.writeEndArray();
+            gen.flush();
+            upstreamDone = true;
+            drain();
+        } catch (IOException e) {
+            abort();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Vide le tampon tant que la reponse est prete ; demande le lot suivant quand il est vide
+    private void drain() throws IOException {
+        if (draining || finished) {
+            return;
+        }
+        draining = true;
+        try {
+            while (out.isReady()) {
+                if (pending.size() > 0) {
+                    byte[] chunk = pending.toByteArray();
+                    pending.reset();
+                    out.write(chunk);
+                    continue;
+                }
+                if (upstreamDone) {
+                    finished = true;
+                    exchange.context().complete();
+                    return;
+                }
+                if (subscription == null || outstanding > 0) {
+                    return;
+                }
+                // Les documents peuvent arriver pendant request() (meme thread) : on reboucle ensuite
+                outstanding = batchSize;
+                subscription.request(batchSize);
+            }
+        } finally {
+            draining = false;
+        }
+    }
+
+    // Expiration du delai, client parti ou erreur : lecture annulee, requete terminee
+    private void abort() {
+        lock.lock();
+        try {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            exchange.context().complete();
+        } catch (RuntimeException e) {
+            log.log(Level.FINE, "Requete asynchrone deja terminee", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class Output implements WriteListener {
+
+        @Override
+        public void onWritePossible() throws IOException {
+            lock.lock();
+            try {
+                drain();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.log(Level.FINE, "Client deconnecte pendant le flux de posters", t);
+            abort();
+        }
+    }
+}
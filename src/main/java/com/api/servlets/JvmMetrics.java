@@ -0,0 +1,100 @@
+package com.api.servlets;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoire et ramasse-miettes de la JVM, exposes par GET /api/_stats : tas, memoire hors tas (buffers directs
+ * du cache hors tas, projections du moteur log) et, par collecteur, nombre, duree cumulee, derniere et plus
+ * longue collecte (notifications de fin de collecte). Pour un collecteur concurrent (cycles G1 ou ZGC),
+ * la duree est celle du cycle, pas une pause de l'application.
+ */
+final class JvmMetrics implements NotificationListener {
+
+    // Derniere et plus longue collecte, par collecteur, depuis le demarrage
+    private record Pauses(AtomicLong lastMillis, AtomicLong maxMillis) {}
+
+    private final Map<String, Pauses> pauses = new ConcurrentHashMap<>();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+    JvmMetrics() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long duration = info.getGcInfo().getDuration();
+        Pauses p = pauses.computeIfAbsent(info.getGcName(), name -> new Pauses(new AtomicLong(), new AtomicLong()));
+        p.lastMillis().set(duration);
+        p.maxMillis().accumulateAndGet(duration, Math::max);
+    }
+
+    void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // deja retire
+            }
+        }
+    }
+
+    Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("heap", usage(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage()));
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct") || pool.getName().equals("mapped")) {
+                Map<String, Object> buffers = new LinkedHashMap<>();
+                buffers.put("count", pool.getCount());
+                buffers.put("used", pool.getMemoryUsed());
+                buffers.put("capacity", pool.getTotalCapacity());
+                stats.put(pool.getName(), buffers);
+            }
+        }
+        Map<String, Object> gc = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("collections", collector.getCollectionCount());
+            counters.put("timeMillis", collector.getCollectionTime());
+            Pauses p = pauses.get(collector.getName());
+            counters.put("lastMillis", p != null ? p.lastMillis().get() : 0L);
+            counters.put("maxMillis", p != null ? p.maxMillis().get() : 0L);
+            gc.put(collector.getName(), counters);
+        }
+        stats.put("gc", gc);
+        return stats;
+    }
+
+    private static Map<String, Object> usage(MemoryUsage usage) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("used", usage.getUsed());
+        stats.put("committed", usage.getCommitted());
+        stats.put("max", usage.getMax());
+        return stats;
+    }
+}